@@ -0,0 +1,408 @@
+package cli;
+
+import datasets.PuzzleBank;
+import implementations.BenchmarkRunner;
+import implementations.ColumnarResults;
+import implementations.ConcurrentSolver;
+import implementations.SolutionCache;
+import implementations.SolveOutcome;
+import implementations.SolverRouter;
+import service.SolverService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * ============================================
+ *       SudokuCli Class
+ * ============================================
+ * Used For: Running the solvers without the UI or recompiling Main. Two commands:
+ *   bench  times the chosen solvers over one or more puzzle CSVs and writes one row per puzzle and
+ *          solver as csv, tsv, jsonl or columnar. It runs one measurement at a time unless
+ *          --threads says otherwise; parallel runs share cores and GC, so their timings are
+ *          contended and do not compare with Main's sequential numbers
+ *   solve  a Unix filter: one puzzle per stdin line (digits, '.' for blanks, or space-separated
+ *          numbers) and one line per puzzle on stdout, in input order: the solution in the same
+ *          notation as SolverService, or UNSOLVABLE, TIMEOUT or ERROR (details go to stderr);
+ *          puzzles equivalent to one solved earlier in the stream come from a SolutionCache
+ * e.g. java -cp target/classes cli.SudokuCli bench --solvers DLX,DPLLSAT --dataset large --reps 3
+ *      cat puzzles.txt | java -cp target/classes cli.SudokuCli solve --solver Auto --threads 8
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SudokuCli {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILED = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = String.join("\n",
+            "Usage: SudokuCli <bench|solve> [options]",
+            "  bench                benchmark solvers over datasets, one row per puzzle and solver",
+            "  solve                read puzzles from stdin, one per line, and write solutions to stdout",
+            "Options:",
+            "  --solvers A,B        solvers to benchmark (default: " + String.join(",", SolverRouter.SOLVERS) + ")",
+            "  --solver NAME        solver for solve, or Auto to route each puzzle (default: DLX)",
+            "  --dataset PATH       puzzle CSV (id,size,data); 'default' and 'large' name the bundled sets;",
+            "                       may be repeated (default: default)",
+            "  --limit N            use only the first N puzzles of each dataset",
+            "  --threads N          worker threads (default: 1 for bench, whose timings are contended when",
+            "                       parallel; available processors for solve)",
+            "  --reps N             measured runs per puzzle and solver (default: 5)",
+            "  --warmup N           warmup runs per puzzle and solver (default: 1)",
+            "  --timeout MS         time budget per solve, 0 for none (default: 120000 bench, 10000 solve)",
+            "  --max-nodes N        node budget per solve, 0 for none (default: 0)",
+            "  --format FMT         bench output: csv, tsv, jsonl or columnar (default: csv);",
+            "                       columnar writes the binary ColumnarResults format and needs --output",
+            "  --output PATH        write to a file instead of stdout");
+
+    static class Options {
+        String command;
+        List<String> solvers = SolverRouter.SOLVERS;
+        String solver = "DLX";
+        List<String> datasets = new ArrayList<>();
+        int limit = Integer.MAX_VALUE;
+        // 0 until parse() picks the default for the command.
+        int threads;
+        int reps = 5;
+        int warmup = 1;
+        long timeoutMillis = -1;
+        long maxNodes = 0;
+        String format = "csv";
+        String output;
+
+        static Options parse(String[] args) {
+            if (args.length == 0) throw new IllegalArgumentException("Missing command");
+            Options options = new Options();
+            options.command = args[0];
+            if (!options.command.equals("bench") && !options.command.equals("solve")) {
+                throw new IllegalArgumentException("Unknown command: " + options.command);
+            }
+            for (int i = 1; i < args.length; i++) {
+                String flag = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + flag);
+                String value = args[++i];
+                switch (flag) {
+                    case "--solvers":
+                        options.solvers = Arrays.asList(value.split(","));
+                        break;
+                    case "--solver":
+                        options.solver = value;
+                        break;
+                    case "--dataset":
+                        options.datasets.add(value);
+                        break;
+                    case "--limit":
+                        options.limit = positive(flag, value);
+                        break;
+                    case "--threads":
+                        options.threads = positive(flag, value);
+                        break;
+                    case "--reps":
+                        options.reps = positive(flag, value);
+                        break;
+                    case "--warmup":
+                        options.warmup = (int) number(flag, value);
+                        break;
+                    case "--timeout":
+                        options.timeoutMillis = number(flag, value);
+                        break;
+                    case "--max-nodes":
+                        options.maxNodes = number(flag, value);
+                        break;
+                    case "--format":
+                        if (!List.of("csv", "tsv", "jsonl", "columnar").contains(value)) {
+                            throw new IllegalArgumentException("Format must be csv, tsv, jsonl or columnar. Got: " + value);
+                        }
+                        options.format = value;
+                        break;
+                    case "--output":
+                        options.output = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + flag);
+                }
+            }
+            for (String name : options.solvers) {
+                if (!SolverRouter.SOLVERS.contains(name)) throw new IllegalArgumentException("Unknown solver: " + name);
+            }
+            if (!options.solver.equals("Auto") && !SolverRouter.SOLVERS.contains(options.solver)) {
+                throw new IllegalArgumentException("Unknown solver: " + options.solver);
+            }
+            if (options.format.equals("columnar") && (!options.command.equals("bench") || options.output == null)) {
+                throw new IllegalArgumentException("Columnar format is only for bench and needs --output.");
+            }
+            if (options.datasets.isEmpty()) options.datasets.add("default");
+            if (options.threads == 0) {
+                options.threads = options.command.equals("bench") ? 1 : Runtime.getRuntime().availableProcessors();
+            }
+            if (options.timeoutMillis < 0) options.timeoutMillis = options.command.equals("bench") ? 120_000 : 10_000;
+            return options;
+        }
+
+        private static long number(String flag, String value) {
+            try {
+                long number = Long.parseLong(value);
+                if (number < 0) throw new NumberFormatException();
+                return number;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(flag + " must be a non-negative number. Got: " + value);
+            }
+        }
+
+        private static int positive(String flag, String value) {
+            long number = number(flag, value);
+            if (number < 1 || number > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(flag + " must be at least 1. Got: " + value);
+            }
+            return (int) number;
+        }
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        PrintStream target = out;
+        try {
+            if (options.output != null && !options.format.equals("columnar")) {
+                target = new PrintStream(Files.newOutputStream(Paths.get(options.output)), false, StandardCharsets.UTF_8);
+            }
+            return options.command.equals("bench") ? bench(options, target, err) : solve(options, in, target, err);
+        } catch (IOException e) {
+            err.println("I/O error: " + e.getMessage());
+            return EXIT_FAILED;
+        } finally {
+            target.flush();
+            if (target != out) target.close();
+        }
+    }
+
+    private static final String[] BENCH_COLUMNS = {
+            "Dataset", "Puzzle", "Solver", "Size", "Clues", "Status", "MeasuredRuns", "FailedRuns",
+            "Mean(μs)", "P50(μs)", "P90(μs)", "P99(μs)", "Min(μs)", "Max(μs)", "Nodes", "Guesses"
+    };
+
+    static int bench(Options options, PrintStream out, PrintStream err) throws IOException {
+        ConcurrentSolver solvers = new ConcurrentSolver();
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads);
+        List<Future<String[]>> rows = new ArrayList<>();
+        try {
+            for (String dataset : options.datasets) {
+                int[][][] puzzles = loadDataset(dataset);
+                int count = Math.min(puzzles.length, options.limit);
+                for (int p = 0; p < count; p++) {
+                    int[][] board = puzzles[p];
+                    String puzzleName = String.valueOf(p + 1);
+                    for (String solver : options.solvers) {
+                        rows.add(pool.submit(() -> benchOne(solvers, options, dataset, puzzleName, solver, board)));
+                    }
+                }
+            }
+
+            boolean columnar = options.format.equals("columnar");
+            List<String[]> columnarRows = new ArrayList<>();
+            if (!columnar) writeRow(out, options.format, BENCH_COLUMNS, null);
+            int failures = 0;
+            for (Future<String[]> row : rows) {
+                String[] values = row.get();
+                if (!values[5].equals("SOLVED")) failures++;
+                if (columnar) {
+                    columnarRows.add(values);
+                } else {
+                    writeRow(out, options.format, BENCH_COLUMNS, values);
+                }
+            }
+            if (columnar) ColumnarResults.Writer.forRows(BENCH_COLUMNS, columnarRows).write(Paths.get(options.output));
+            return failures == 0 ? EXIT_OK : EXIT_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_FAILED;
+        } catch (ExecutionException e) {
+            err.println("Benchmark failed: " + e.getCause());
+            return EXIT_FAILED;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String[] benchOne(ConcurrentSolver solvers, Options options, String dataset, String puzzleName,
+                                     String solver, int[][] board) {
+        SolveOutcome[] last = new SolveOutcome[1];
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.setWarmupRuns(options.warmup, options.warmup);
+        runner.setMeasuredRuns(options.reps, options.reps);
+        BenchmarkRunner.Stats stats = runner.run(() -> {
+            last[0] = solvers.solve(solver, board, options.timeoutMillis, options.maxNodes);
+            return last[0].getStatus() == SolveOutcome.Status.SOLVED;
+        });
+
+        SolveOutcome outcome = last[0];
+        String status = outcome == null ? "FAILED"
+                : outcome.getStatus() == SolveOutcome.Status.EXHAUSTED ? "EXHAUSTED(" + outcome.getExhaustedReason() + ")"
+                : stats.hasSamples() ? "SOLVED" : outcome.getStatus().name();
+        return new String[]{
+                dataset, puzzleName, solver, String.valueOf(board.length), String.valueOf(countClues(board)), status,
+                String.valueOf(stats.measuredRuns), String.valueOf(stats.failedRuns),
+                micros(stats.meanNanos), micros(stats.p50Nanos), micros(stats.p90Nanos), micros(stats.p99Nanos),
+                micros(stats.minNanos), micros(stats.maxNanos),
+                String.valueOf(outcome != null ? outcome.getNodes() : 0),
+                String.valueOf(outcome != null ? outcome.getNumberOfGuesses() : 0)
+        };
+    }
+
+    static int solve(Options options, InputStream in, PrintStream out, PrintStream err) throws IOException {
+        ConcurrentSolver solvers = new ConcurrentSolver();
+        SolutionCache cache = new SolutionCache(4096);
+        SolverRouter router = options.solver.equals("Auto") ? SolverRouter.fromResults(Paths.get("results")) : null;
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads);
+        // Enough puzzles in flight to keep every thread busy while answers still leave in input order.
+        int window = options.threads * 4;
+        Deque<Future<String>> pending = new ArrayDeque<>();
+        int failures = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            while (true) {
+                // Nothing more to read right now: answer what is in flight so interactive callers
+                // are not kept waiting behind the batching.
+                if (!reader.ready()) {
+                    while (!pending.isEmpty()) failures += write(out, pending.poll().get(), err);
+                    out.flush();
+                }
+                String line = reader.readLine();
+                if (line == null) break;
+                lineNumber++;
+                if (line.isBlank()) continue;
+                int number = lineNumber;
+                pending.add(pool.submit(() -> solveLine(solvers, cache, router, options, line, number)));
+                if (pending.size() >= window) failures += write(out, pending.poll().get(), err);
+            }
+            while (!pending.isEmpty()) failures += write(out, pending.poll().get(), err);
+            return failures == 0 ? EXIT_OK : EXIT_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_FAILED;
+        } catch (ExecutionException e) {
+            err.println("Solve failed: " + e.getCause());
+            return EXIT_FAILED;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Returns the stdout line, with any stderr detail after a newline. A puzzle that makes a solver
+    // fail is reported as ERROR so the rest of the stream still gets answered.
+    private static String solveLine(ConcurrentSolver solvers, SolutionCache cache, SolverRouter router,
+                                    Options options, String line, int lineNumber) {
+        try {
+            return solveParsedLine(solvers, cache, router, options, line, lineNumber);
+        } catch (RuntimeException e) {
+            return "ERROR\nline " + lineNumber + ": " + e;
+        }
+    }
+
+    private static String solveParsedLine(ConcurrentSolver solvers, SolutionCache cache, SolverRouter router,
+                                          Options options, String line, int lineNumber) {
+        int[][] board;
+        try {
+            board = SolverService.parseBoard(line);
+        } catch (IllegalArgumentException e) {
+            return "ERROR\nline " + lineNumber + ": " + e.getMessage();
+        }
+        SolutionCache.Lookup cached = cache.lookup(board);
+        if (cached.isHit()) return SolverService.formatBoard(cached.solution);
+        SolverRouter.Features features = router != null ? SolverRouter.Features.of(board) : null;
+        String solver = router != null ? router.route(features) : options.solver;
+        SolveOutcome outcome = solvers.solve(solver, board, options.timeoutMillis, options.maxNodes);
+        if (router != null) {
+            router.observe(features, solver, outcome.getElapsedMicros() / 1_000.0,
+                    outcome.getStatus() != SolveOutcome.Status.EXHAUSTED);
+        }
+        switch (outcome.getStatus()) {
+            case SOLVED:
+                cache.store(cached, outcome.getSolution());
+                return SolverService.formatBoard(outcome.getSolution());
+            case UNSOLVABLE:
+                return "UNSOLVABLE";
+            default:
+                return "TIMEOUT\nline " + lineNumber + ": " + solver + " stopped (" + outcome.getExhaustedReason() + ")";
+        }
+    }
+
+    private static int write(PrintStream out, String result, PrintStream err) {
+        int newline = result.indexOf('\n');
+        if (newline < 0) {
+            out.println(result);
+            return result.equals("UNSOLVABLE") ? 1 : 0;
+        }
+        out.println(result.substring(0, newline));
+        err.println(result.substring(newline + 1));
+        return 1;
+    }
+
+    static int[][][] loadDataset(String dataset) throws IOException {
+        String path = dataset.equals("default") ? PuzzleBank.DEFAULT_PUZZLES_FILE
+                : dataset.equals("large") ? PuzzleBank.LARGE_PUZZLES_FILE : dataset;
+        // PuzzleBank reports a missing file as an empty set; here it is a user error.
+        if (!Files.isReadable(Path.of(path))) throw new IOException("Cannot read dataset " + path);
+        return PuzzleBank.getPuzzles(path);
+    }
+
+    private static void writeRow(PrintStream out, String format, String[] columns, String[] values) {
+        if (format.equals("jsonl")) {
+            if (values == null) return;
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append('"').append(columns[i]).append("\":");
+                if (values[i].matches("-?\\d+(\\.\\d+)?")) {
+                    sb.append(values[i]);
+                } else {
+                    sb.append('"').append(values[i].replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+                }
+            }
+            out.println(sb.append('}'));
+        } else {
+            out.println(String.join(format.equals("tsv") ? "\t" : ",", values == null ? columns : values));
+        }
+    }
+
+    private static String micros(double nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1e3);
+    }
+
+    private static int countClues(int[][] board) {
+        int clues = 0;
+        for (int[] row : board)
+            for (int cell : row)
+                if (cell != 0) clues++;
+        return clues;
+    }
+}
@@ -18,8 +18,18 @@ import java.util.Random;
  */
 
 public class PuzzleBank {
+  public static final String DEFAULT_PUZZLES_FILE = "src/main/java/datasets/sudoku_puzzles_test.csv";
+  public static final String LARGE_PUZZLES_FILE = "src/main/java/datasets/sudoku_puzzles_large.csv";
+
   public static int[][][] getPuzzles() {
-        String filePath = "src\\main\\java\\datasets\\sudoku_puzzles_test.csv";
+        return getPuzzles(DEFAULT_PUZZLES_FILE);
+    }
+
+  public static int[][][] getLargePuzzles() {
+        return getPuzzles(LARGE_PUZZLES_FILE);
+    }
+
+  public static int[][][] getPuzzles(String filePath) {
         List<int[][]> puzzleList = new ArrayList<>();
 
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
@@ -0,0 +1,257 @@
+package datasets;
+
+import implementations.DLXSolver;
+import implementations.SolveBudget;
+import implementations.SudokuSymmetry;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/*
+ * ============================================
+ *            PuzzleGenerator Class
+ * ============================================
+ * Used For: Generating reproducible, seeded corpora of unique-solution Sudoku puzzles of any
+ * perfect-square size, targeting a clue count and optionally a difficulty band, and writing
+ * them straight to the id,size,data dataset format used by PuzzleBank.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class PuzzleGenerator {
+    private static final int CHUNK_SIZE = 1024;
+    private static final int MAX_ATTEMPTS = 50;
+    private static final int LARGE_BOARD_SIZE = 25;
+
+    private final int N;
+    private final int boxSize;
+    private final int targetClues;
+    private long minGuesses = 0;
+    private long maxGuesses = Long.MAX_VALUE;
+    private long uniquenessCheckNodes = 0;
+
+    public PuzzleGenerator(int N, int targetClues) {
+        int s = (int) Math.sqrt(N);
+        if (s * s != N) {
+            throw new IllegalArgumentException("N must be a perfect square (e.g., 4, 9, 16).");
+        }
+        if (targetClues < 0 || targetClues > N * N) {
+            throw new IllegalArgumentException("Target clue count must be between 0 and " + (N * N));
+        }
+        this.N = N;
+        this.boxSize = s;
+        this.targetClues = targetClues;
+    }
+
+    public void setDifficultyBand(long minGuesses, long maxGuesses) {
+        if (minGuesses < 0 || maxGuesses < minGuesses) {
+            throw new IllegalArgumentException("Difficulty band must satisfy 0 <= min <= max.");
+        }
+        this.minGuesses = minGuesses;
+        this.maxGuesses = maxGuesses;
+    }
+
+    // Node cap for each uniqueness check on boards above 25x25; 0 (the default) means 4*N^2. The
+    // default keeps generation quick but stops removing clues while the board is still dense.
+    public void setUniquenessCheckNodes(long maxNodes) {
+        if (maxNodes < 0) throw new IllegalArgumentException("Uniqueness check nodes must not be negative.");
+        this.uniquenessCheckNodes = maxNodes;
+    }
+
+    public int[][] generateSolvedGrid(Random random) {
+        int[][] seed = new int[N][N];
+        for (int box = 0; box < boxSize; box++) {
+            int[] digits = shuffledRange(random, N);
+            for (int k = 0; k < N; k++) {
+                seed[box * boxSize + k / boxSize][box * boxSize + k % boxSize] = digits[k] + 1;
+            }
+        }
+
+        // Large grids can stall DLX on an unlucky diagonal seed, so the completion gets a node
+        // budget and falls back to the shifted pattern grid (the random transform still applies).
+        DLXSolver completer = new DLXSolver(N, false);
+        completer.setBudget(new SolveBudget(0, 20L * N * N));
+        int[][] grid;
+        try {
+            grid = completer.solve(seed);
+        } catch (SolveBudget.ExhaustedException e) {
+            grid = null;
+        }
+        if (grid == null) {
+            grid = new int[N][N];
+            for (int r = 0; r < N; r++)
+                for (int c = 0; c < N; c++)
+                    grid[r][c] = (boxSize * (r % boxSize) + r / boxSize + c) % N + 1;
+        }
+        return randomTransform(random).apply(grid);
+    }
+
+    // Returns null when a difficulty band is set and none of MAX_ATTEMPTS puzzles landed in it,
+    // so a corpus built for a band never contains a puzzle outside it.
+    public int[][] generatePuzzle(Random random) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int[][] puzzle = removeClues(generateSolvedGrid(random), random);
+            if (minGuesses == 0 && maxGuesses == Long.MAX_VALUE) return puzzle;
+            DLXSolver checker = new DLXSolver(N, false);
+            checker.countSolutions(puzzle, 2);
+            long guesses = checker.getNumberOfGuesses();
+            if (guesses >= minGuesses && guesses <= maxGuesses) return puzzle;
+        }
+        return null;
+    }
+
+    // Removes clues in adaptive chunks: a chunk that keeps the solution unique is accepted in one
+    // check, a chunk that breaks uniqueness is halved until single clues are tested.
+    public int[][] removeClues(int[][] grid, Random random) {
+        int[][] puzzle = new int[N][];
+        for (int r = 0; r < N; r++) puzzle[r] = grid[r].clone();
+
+        DLXSolver checker = new DLXSolver(N, false);
+        int[] order = shuffledRange(random, N * N);
+        int clues = N * N;
+        int chunk = Math.max(1, (clues - targetClues) / 4);
+        int next = 0;
+        while (next < order.length && clues > targetClues) {
+            int size = Math.min(chunk, Math.min(order.length - next, clues - targetClues));
+            for (int k = next; k < next + size; k++) {
+                puzzle[order[k] / N][order[k] % N] = 0;
+            }
+            if (isConfirmedUnique(checker, puzzle)) {
+                clues -= size;
+                next += size;
+                chunk = size * 2;
+            } else if (size > 1) {
+                for (int k = next; k < next + size; k++) {
+                    puzzle[order[k] / N][order[k] % N] = grid[order[k] / N][order[k] % N];
+                }
+                chunk = size / 2;
+            } else {
+                puzzle[order[next] / N][order[next] % N] = grid[order[next] / N][order[next] % N];
+                next++;
+            }
+        }
+        return puzzle;
+    }
+
+    // Boards above 25x25 bound each uniqueness check; a check that runs out of nodes counts as
+    // "not unique", so the accepted puzzle is still guaranteed to have exactly one solution.
+    private boolean isConfirmedUnique(DLXSolver checker, int[][] puzzle) {
+        if (N > LARGE_BOARD_SIZE) {
+            checker.setBudget(new SolveBudget(0, uniquenessCheckNodes > 0 ? uniquenessCheckNodes : 4L * N * N));
+        }
+        try {
+            return checker.hasUniqueSolution(puzzle);
+        } catch (SolveBudget.ExhaustedException e) {
+            return false;
+        }
+    }
+
+    // Puzzles that missed the difficulty band are left out, so the corpus can be shorter than count.
+    public int[][][] generateCorpus(int count, long seed) {
+        int[][][] corpus = Arrays.stream(generateRange(0, count, seed)).filter(Objects::nonNull).toArray(int[][][]::new);
+        if (corpus.length < count) warnSkipped(count - corpus.length);
+        return corpus;
+    }
+
+    // Skipped puzzles keep their ids unused, so the other ids stay the same for a given seed.
+    public void writeCorpus(String filename, int count, long seed) throws IOException {
+        int written = 0;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+            writer.write("id,size,data\n");
+            for (int start = 0; start < count; start += CHUNK_SIZE) {
+                int end = Math.min(count, start + CHUNK_SIZE);
+                int[][][] chunk = generateRange(start, end, seed);
+                for (int i = 0; i < chunk.length; i++) {
+                    if (chunk[i] == null) continue;
+                    writer.write(toDatasetLine(N + "_" + (start + i + 1), chunk[i]));
+                    writer.write("\n");
+                    written++;
+                }
+            }
+        }
+        if (written < count) warnSkipped(count - written);
+        System.out.println("Generated " + written + " puzzles of size " + N + "x" + N + " to " + filename);
+    }
+
+    private void warnSkipped(int skipped) {
+        System.out.println("Warning: skipped " + skipped + " puzzles with no attempt in the difficulty band "
+                + minGuesses + ".." + maxGuesses + " guesses after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    private int[][][] generateRange(int start, int end, long seed) {
+        return IntStream.range(start, end)
+                .parallel()
+                .mapToObj(i -> generatePuzzle(new Random(puzzleSeed(seed, i))))
+                .toArray(int[][][]::new);
+    }
+
+    private static long puzzleSeed(long seed, int index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static String toDatasetLine(String id, int[][] puzzle) {
+        StringBuilder line = new StringBuilder();
+        line.append(id).append(",").append(puzzle.length).append(",");
+        for (int[] row : puzzle) {
+            for (int cell : row) {
+                line.append(cell).append(" ");
+            }
+        }
+        return line.toString().trim();
+    }
+
+    private SudokuSymmetry.Transform randomTransform(Random random) {
+        int[] bands = shuffledRange(random, boxSize);
+        int[] stacks = shuffledRange(random, boxSize);
+        int[] rowOrder = new int[N];
+        int[] colOrder = new int[N];
+        for (int g = 0; g < boxSize; g++) {
+            int[] rows = shuffledRange(random, boxSize);
+            int[] cols = shuffledRange(random, boxSize);
+            for (int k = 0; k < boxSize; k++) {
+                rowOrder[g * boxSize + k] = bands[g] * boxSize + rows[k];
+                colOrder[g * boxSize + k] = stacks[g] * boxSize + cols[k];
+            }
+        }
+        int[] digits = shuffledRange(random, N);
+        int[] digitMap = new int[N + 1];
+        for (int d = 1; d <= N; d++) digitMap[d] = digits[d - 1] + 1;
+        return new SudokuSymmetry.Transform(random.nextBoolean(), rowOrder, colOrder, digitMap);
+    }
+
+    private static int[] shuffledRange(Random random, int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = values[i];
+            values[i] = values[j];
+            values[j] = t;
+        }
+        return values;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 5) {
+            System.out.println("Usage: PuzzleGenerator <size> <count> <seed> <targetClues> <output.csv>"
+                    + " [minGuesses maxGuesses] [uniquenessCheckNodes]");
+            return;
+        }
+        PuzzleGenerator generator = new PuzzleGenerator(Integer.parseInt(args[0]), Integer.parseInt(args[3]));
+        if (args.length >= 7) {
+            generator.setDifficultyBand(Long.parseLong(args[5]), Long.parseLong(args[6]));
+        }
+        if (args.length == 6 || args.length >= 8) {
+            generator.setUniquenessCheckNodes(Long.parseLong(args[args.length == 6 ? 5 : 7]));
+        }
+        generator.writeCorpus(args[4], Integer.parseInt(args[1]), Long.parseLong(args[2]));
+    }
+}
@@ -11,19 +11,30 @@ import java.util.*;
  * ============================================
  */
 
- public class BackTrackingSolver {
+ public class BackTrackingSolver implements ReusableSolver {
      private final int N;
-     public int[][] sudoku;
-     public Map<Integer, Set<Integer>> rowConstraints = new HashMap<>();
-     public Map<Integer, Set<Integer>> colConstraints = new HashMap<>();
-     public Map<Integer, Set<Integer>> boxConstraints = new HashMap<>();
+     private final int boxSize;
+     private int[][] sudoku;
+     private final Map<Integer, Set<Integer>> rowConstraints = new HashMap<>();
+     private final Map<Integer, Set<Integer>> colConstraints = new HashMap<>();
+     private final Map<Integer, Set<Integer>> boxConstraints = new HashMap<>();
+     private long[] rowMask;
+     private long[] colMask;
+     private long[] boxMask;
  
      private int propagationDepth = 0;
      private int numberOfGuesses = 0;
-     private long startTime;
-     public long timeoutMillis = 120_000;
-     private int recursionCounter = 0;
+     private long timeoutMillis = 120_000;
+     private SolveBudget budget;
+     private SolveBudget activeBudget;
+     private SolveBudget timeoutBudget;
+     private int[][] workingBoard;
+     private int[] emptyRow;
+     private int[] emptyCol;
+     private int[] emptyBox;
+     private long[] untried;
      private boolean isRunningInUI = false;
+     private boolean iterative = true;
      private int stepCount = 0;
      private List<int[][]> steps = new ArrayList<>();  
      
@@ -32,6 +43,7 @@ import java.util.*;
              throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
          }
          this.N = N;
+         this.boxSize = (int) Math.sqrt(N);
          this.isRunningInUI = isRunningInUI;
      }
  
@@ -40,11 +52,11 @@ import java.util.*;
      }
  
      public int getBoxIndex(int row, int col) {
-         int boxSize = (int) Math.sqrt(N);
          return (row / boxSize) * boxSize + (col / boxSize);
      }
  
-     public void findInitialConstraints() {
+     private void findInitialConstraints() {
+         loadMasks();
          for (int i = 0; i < N; i++) {
              rowConstraints.put(i, new HashSet<>());
              colConstraints.put(i, new HashSet<>());
@@ -62,34 +74,97 @@ import java.util.*;
          }
      }
  
+     private void loadMasks() {
+         if (rowMask == null) {
+             rowMask = new long[N];
+             colMask = new long[N];
+             boxMask = new long[N];
+         }
+         Arrays.fill(rowMask, 0);
+         Arrays.fill(colMask, 0);
+         Arrays.fill(boxMask, 0);
+         for (int row = 0; row < N; row++) {
+             for (int col = 0; col < N; col++) {
+                 int value = sudoku[row][col];
+                 if (value != 0) {
+                     long bit = 1L << (value - 1);
+                     rowMask[row] |= bit;
+                     colMask[col] |= bit;
+                     boxMask[getBoxIndex(row, col)] |= bit;
+                 }
+             }
+         }
+     }
+ 
      public int[][] solve(int[][] sudoku) {
          if (!isValidBoard(sudoku)) {
              throw new IllegalArgumentException("Invalid board: must be " + N + "x" + N + " and contain values 0.." + N);
          }
  
-         this.sudoku = sudoku;
-         this.propagationDepth = 0;
-         this.numberOfGuesses = 0;
-         this.recursionCounter = 0;
-         this.startTime = System.currentTimeMillis();
+         // Solve on a private copy so the caller's board is never written to.
+         this.sudoku = new int[N][];
+         for (int i = 0; i < N; i++) this.sudoku[i] = sudoku[i].clone();
+         startSolve();
  
+         SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), sudoku);
          findInitialConstraints();
+         SolverEvents.endPropagationAtClues(propagation, false);
  
-         boolean solvable = guessCell(0, 0, 0);
+         boolean solvable = search(sudoku);
          if (solvable) {
-             return sudoku;
+             return this.sudoku;
          } else {
              return null;
          }
      }
  
-     private boolean guessCell(int row, int col, int currentDepth) {
-         recursionCounter++;
-         if (recursionCounter % 50 == 0) {
-             if (System.currentTimeMillis() - startTime >= timeoutMillis) {
-                 throw new RuntimeException("Timeout exceeded (" + (timeoutMillis / 1000) + " seconds)");
+     public boolean solveInto(int[][] board, int[][] solution) {
+         if (!isValidBoard(board) || !isValidBoard(solution)) {
+             throw new IllegalArgumentException("Invalid board: must be " + N + "x" + N + " and contain values 0.." + N);
+         }
+         if (workingBoard == null) workingBoard = new int[N][N];
+         for (int i = 0; i < N; i++) System.arraycopy(board[i], 0, workingBoard[i], 0, N);
+ 
+         this.sudoku = workingBoard;
+         startSolve();
+         SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), board);
+         loadMasks();
+         SolverEvents.endPropagationAtClues(propagation, false);
+ 
+         boolean solvable = search(board);
+         if (solvable) {
+             for (int i = 0; i < N; i++) System.arraycopy(workingBoard[i], 0, solution[i], 0, N);
+         }
+         return solvable;
+     }
+ 
+     private boolean search(int[][] initialBoard) {
+         SolverEvents.SearchEvent event = SolverEvents.beginSearch(getName(), initialBoard);
+         boolean solvable = false;
+         try {
+             solvable = iterative ? searchEmptyCells() : guessCell(0, 0, 0);
+             return solvable;
+         } finally {
+             SolverEvents.endSearch(event, numberOfGuesses, propagationDepth, activeBudget.getNodes(), solvable);
+         }
+     }
+ 
+     private void startSolve() {
+         this.propagationDepth = 0;
+         this.numberOfGuesses = 0;
+         if (budget != null) {
+             activeBudget = budget;
+         } else {
+             if (timeoutBudget == null || timeoutBudget.getTimeoutMillis() != timeoutMillis) {
+                 timeoutBudget = SolveBudget.ofMillis(timeoutMillis);
              }
+             activeBudget = timeoutBudget;
          }
+         this.activeBudget.start();
+     }
+ 
+     private boolean guessCell(int row, int col, int currentDepth) {
+         activeBudget.tick();
  
          if (row == N) return true;
  
@@ -102,21 +177,20 @@ import java.util.*;
  
          propagationDepth = Math.max(propagationDepth, currentDepth);
  
-         List<Integer> candidates = new ArrayList<>();
-         for (int val = 1; val <= N; val++) {
-             if (!rowConstraints.get(row).contains(val) && !colConstraints.get(col).contains(val)
-                     && !boxConstraints.get(getBoxIndex(row, col)).contains(val)) {
-                 candidates.add(val);
-             }
-         }
+         int box = getBoxIndex(row, col);
+         long candidates = ~(rowMask[row] | colMask[col] | boxMask[box]) & allDigits();
  
-         if (candidates.size() > 1) numberOfGuesses++;
+         if (Long.bitCount(candidates) > 1) numberOfGuesses++;
+ 
+         while (candidates != 0) {
+             long bit = candidates & -candidates;
+             candidates &= candidates - 1;
+             int val = Long.numberOfTrailingZeros(bit) + 1;
  
-         for (int val : candidates) {
              sudoku[row][col] = val;
-             rowConstraints.get(row).add(val);
-             colConstraints.get(col).add(val);
-             boxConstraints.get(getBoxIndex(row, col)).add(val);
+             rowMask[row] |= bit;
+             colMask[col] |= bit;
+             boxMask[box] |= bit;
  
              if (isRunningInUI) {
                  storeStep();  
@@ -125,14 +199,87 @@ import java.util.*;
              if (guessCell(nextRow, nextCol, currentDepth + 1)) return true;
  
              sudoku[row][col] = 0;
-             rowConstraints.get(row).remove(val);
-             colConstraints.get(col).remove(val);
-             boxConstraints.get(getBoxIndex(row, col)).remove(val);
+             rowMask[row] &= ~bit;
+             colMask[col] &= ~bit;
+             boxMask[box] &= ~bit;
+         }
+ 
+         return false;
+     }
+ 
+     // Same search order and metrics as guessCell, but it only visits the empty cells (listed once
+     // up front with their row/col/box indices) and keeps the untried candidates of each level on
+     // an explicit stack, so depth is the number of blanks and no Java frames are used.
+     private boolean searchEmptyCells() {
+         if (untried == null) {
+             emptyRow = new int[N * N];
+             emptyCol = new int[N * N];
+             emptyBox = new int[N * N];
+             untried = new long[N * N];
          }
+         int[] rowOf = emptyRow;
+         int[] colOf = emptyCol;
+         int[] boxOf = emptyBox;
+         int next = 0;
+         for (int row = 0; row < N; row++) {
+             for (int col = 0; col < N; col++) {
+                 if (sudoku[row][col] != 0) continue;
+                 rowOf[next] = row;
+                 colOf[next] = col;
+                 boxOf[next] = getBoxIndex(row, col);
+                 next++;
+             }
+         }
+         int count = next;
+         if (count == 0) return true;
+ 
+         int level = 0;
+         untried[0] = openCandidates(rowOf[0], colOf[0], boxOf[0]);
+ 
+         while (level >= 0) {
+             int row = rowOf[level];
+             int col = colOf[level];
+             int box = boxOf[level];
+             if (sudoku[row][col] != 0) {
+                 long placed = ~(1L << (sudoku[row][col] - 1));
+                 sudoku[row][col] = 0;
+                 rowMask[row] &= placed;
+                 colMask[col] &= placed;
+                 boxMask[box] &= placed;
+             }
+             if (untried[level] == 0) {
+                 level--;
+                 continue;
+             }
  
+             activeBudget.tick();
+             long bit = untried[level] & -untried[level];
+             untried[level] &= untried[level] - 1;
+             sudoku[row][col] = Long.numberOfTrailingZeros(bit) + 1;
+             rowMask[row] |= bit;
+             colMask[col] |= bit;
+             boxMask[box] |= bit;
+             if (isRunningInUI) {
+                 storeStep();
+             }
+ 
+             if (++level == count) return true;
+             untried[level] = openCandidates(rowOf[level], colOf[level], boxOf[level]);
+             propagationDepth = Math.max(propagationDepth, level);
+         }
          return false;
      }
  
+     private long openCandidates(int row, int col, int box) {
+         long candidates = ~(rowMask[row] | colMask[col] | boxMask[box]) & allDigits();
+         if (Long.bitCount(candidates) > 1) numberOfGuesses++;
+         return candidates;
+     }
+ 
+     private long allDigits() {
+         return N == 64 ? -1L : (1L << N) - 1;
+     }
+ 
      public boolean isValidBoard(int[][] board) {
          if (board == null || board.length != N) return false;
          for (int[] row : board) {
@@ -172,5 +319,46 @@ import java.util.*;
      public void setTimeoutMillis(long millis) {
          this.timeoutMillis = millis;
      }
+
+     public long getTimeoutMillis() {
+         return timeoutMillis;
+     }
+
+     // The clues of the last solve() in one row, column or box, as a read-only view.
+     public Set<Integer> getRowConstraints(int row) {
+         return Collections.unmodifiableSet(rowConstraints.getOrDefault(row, Set.of()));
+     }
+
+     public Set<Integer> getColConstraints(int col) {
+         return Collections.unmodifiableSet(colConstraints.getOrDefault(col, Set.of()));
+     }
+
+     public Set<Integer> getBoxConstraints(int box) {
+         return Collections.unmodifiableSet(boxConstraints.getOrDefault(box, Set.of()));
+     }
+
+     public void setBudget(SolveBudget budget) {
+         this.budget = budget;
+     }
+
+     public void setIterative(boolean iterative) {
+         this.iterative = iterative;
+     }
+
+     public String getName() {
+         return "Backtracking";
+     }
+
+     public int getSize() {
+         return N;
+     }
+
+     public void reset() {
+         propagationDepth = 0;
+         numberOfGuesses = 0;
+         budget = null;
+         steps.clear();
+         stepCount = 0;
+     }
  }
  
\ No newline at end of file
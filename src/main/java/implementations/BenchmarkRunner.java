@@ -0,0 +1,278 @@
+package implementations;
+
+import java.util.Arrays;
+
+/*
+ * ============================================
+ *       BenchmarkRunner Class
+ * ============================================
+ * Used For: Timing one solver on one puzzle the way a benchmark should. Warmup runs continue
+ * until the last few run times agree (steady state) or the warmup limits are hit, measured runs
+ * are timed with System.nanoTime, Tukey fences drop outliers, and the summary carries the mean,
+ * p50/p90/p99 and a 95% confidence interval. A failed run is counted and the runner goes on;
+ * it only gives up after a run of consecutive failures, or straight away when a SolveBudget
+ * runs out, since repeating a solve that hit its budget only repeats the timeout.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public final class BenchmarkRunner {
+
+    public interface Task {
+        // Returns true when the run produced a valid answer; other exceptions count as failed runs.
+        boolean run() throws Exception;
+    }
+
+    public static class Stats {
+        public final long[] samplesNanos;
+        public final int warmupRuns;
+        public final boolean steadyState;
+        public final int measuredRuns;
+        public final int failedRuns;
+        public final int outliersRemoved;
+        public final double meanNanos;
+        public final double stdDevNanos;
+        public final long minNanos;
+        public final long maxNanos;
+        public final long p50Nanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+        public final double ciLowNanos;
+        public final double ciHighNanos;
+        public final Throwable lastFailure;
+
+        Stats(long[] samplesNanos, int warmupRuns, boolean steadyState, int measuredRuns, int failedRuns,
+              int outliersRemoved, double meanNanos, double stdDevNanos, long minNanos, long maxNanos, long p50Nanos,
+              long p90Nanos, long p99Nanos, double ciLowNanos, double ciHighNanos, Throwable lastFailure) {
+            this.samplesNanos = samplesNanos;
+            this.warmupRuns = warmupRuns;
+            this.steadyState = steadyState;
+            this.measuredRuns = measuredRuns;
+            this.failedRuns = failedRuns;
+            this.outliersRemoved = outliersRemoved;
+            this.meanNanos = meanNanos;
+            this.stdDevNanos = stdDevNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.ciLowNanos = ciLowNanos;
+            this.ciHighNanos = ciHighNanos;
+            this.lastFailure = lastFailure;
+        }
+
+        public boolean hasSamples() {
+            return samplesNanos.length > 0;
+        }
+    }
+
+    // Two-sided 95% Student t critical values for 1..30 degrees of freedom; 1.96 beyond that.
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private int minWarmupRuns = 2;
+    private int maxWarmupRuns = 20;
+    private long maxWarmupNanos = 10_000_000_000L;
+    private int steadyStateWindow = 3;
+    private double steadyStateTolerance = 0.05;
+    private int measuredRuns = 10;
+    private int minMeasuredRuns = 3;
+    private long maxMeasureNanos = 30_000_000_000L;
+    private int maxConsecutiveFailures = 2;
+    private double outlierFence = 1.5;
+
+    public BenchmarkRunner() {
+    }
+
+    public BenchmarkRunner(int minWarmupRuns, int measuredRuns) {
+        setWarmupRuns(minWarmupRuns, Math.max(minWarmupRuns, maxWarmupRuns));
+        setMeasuredRuns(Math.min(minMeasuredRuns, measuredRuns), measuredRuns);
+    }
+
+    public Stats run(Task task) {
+        int failed = 0;
+        int consecutiveFailures = 0;
+        Throwable lastFailure = null;
+
+        // Warmup: the samples are only used to decide when timings have settled.
+        long[] warmup = new long[maxWarmupRuns];
+        int warmupCount = 0;
+        boolean steady = false;
+        long warmupStart = System.nanoTime();
+        while (warmupCount < maxWarmupRuns) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = task.run();
+            } catch (SolveBudget.ExhaustedException e) {
+                return summarize(new long[0], warmupCount + 1, false, 0, failed + 1, e);
+            } catch (Exception | StackOverflowError e) {
+                ok = false;
+                lastFailure = e;
+            }
+            long elapsed = System.nanoTime() - start;
+            warmup[warmupCount++] = elapsed;
+            if (!ok) {
+                failed++;
+                if (++consecutiveFailures >= maxConsecutiveFailures) {
+                    return summarize(new long[0], warmupCount, false, 0, failed, lastFailure);
+                }
+                continue;
+            }
+            consecutiveFailures = 0;
+            if (warmupCount >= minWarmupRuns && isSteady(warmup, warmupCount)) {
+                steady = true;
+                break;
+            }
+            if (warmupCount >= minWarmupRuns && System.nanoTime() - warmupStart >= maxWarmupNanos) break;
+        }
+
+        long[] samples = new long[measuredRuns];
+        int count = 0;
+        int attempts = 0;
+        long measureStart = System.nanoTime();
+        while (attempts < measuredRuns) {
+            attempts++;
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = task.run();
+            } catch (SolveBudget.ExhaustedException e) {
+                failed++;
+                lastFailure = e;
+                break;
+            } catch (Exception | StackOverflowError e) {
+                ok = false;
+                lastFailure = e;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (ok) {
+                samples[count++] = elapsed;
+                consecutiveFailures = 0;
+            } else {
+                failed++;
+                if (++consecutiveFailures >= maxConsecutiveFailures) break;
+            }
+            if (attempts >= minMeasuredRuns && System.nanoTime() - measureStart >= maxMeasureNanos) break;
+        }
+        return summarize(Arrays.copyOf(samples, count), warmupCount, steady, attempts, failed, lastFailure);
+    }
+
+    // Steady when the coefficient of variation of the last window of warmup runs is within the
+    // tolerance.
+    private boolean isSteady(long[] warmup, int count) {
+        if (count < steadyStateWindow) return false;
+        double mean = 0;
+        for (int i = count - steadyStateWindow; i < count; i++) mean += warmup[i];
+        mean /= steadyStateWindow;
+        double variance = 0;
+        for (int i = count - steadyStateWindow; i < count; i++) variance += (warmup[i] - mean) * (warmup[i] - mean);
+        double stdDev = Math.sqrt(variance / steadyStateWindow);
+        return mean > 0 && stdDev / mean <= steadyStateTolerance;
+    }
+
+    private Stats summarize(long[] raw, int warmupRuns, boolean steady, int measured, int failed, Throwable lastFailure) {
+        long[] kept = rejectOutliers(raw);
+        if (kept.length == 0) {
+            return new Stats(kept, warmupRuns, steady, measured, failed, raw.length, 0, 0, 0, 0, 0, 0, 0, 0, 0, lastFailure);
+        }
+
+        double mean = 0;
+        for (long sample : kept) mean += sample;
+        mean /= kept.length;
+        double variance = 0;
+        for (long sample : kept) variance += (sample - mean) * (sample - mean);
+        double stdDev = kept.length > 1 ? Math.sqrt(variance / (kept.length - 1)) : 0;
+        double halfWidth = kept.length > 1 ? tCritical(kept.length - 1) * stdDev / Math.sqrt(kept.length) : 0;
+
+        long[] sorted = kept.clone();
+        Arrays.sort(sorted);
+        return new Stats(kept, warmupRuns, steady, measured, failed, raw.length - kept.length, mean, stdDev,
+                sorted[0], sorted[sorted.length - 1], percentile(sorted, 50), percentile(sorted, 90),
+                percentile(sorted, 99), mean - halfWidth, mean + halfWidth, lastFailure);
+    }
+
+    // Tukey fences: drop samples outside [Q1 - k*IQR, Q3 + k*IQR]. Needs at least four samples
+    // for the quartiles to mean anything; measurement order is kept for the survivors.
+    public long[] rejectOutliers(long[] samples) {
+        if (samples.length < 4 || outlierFence <= 0) return samples.clone();
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        double q1 = interpolate(sorted, 0.25);
+        double q3 = interpolate(sorted, 0.75);
+        double iqr = q3 - q1;
+        double low = q1 - outlierFence * iqr;
+        double high = q3 + outlierFence * iqr;
+
+        long[] kept = new long[samples.length];
+        int count = 0;
+        for (long sample : samples) {
+            if (sample >= low && sample <= high) kept[count++] = sample;
+        }
+        return Arrays.copyOf(kept, count);
+    }
+
+    // Nearest-rank percentile on sorted samples.
+    public static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double interpolate(long[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    private static double tCritical(int degreesOfFreedom) {
+        return degreesOfFreedom <= T_95.length ? T_95[degreesOfFreedom - 1] : 1.96;
+    }
+
+    public void setWarmupRuns(int minWarmupRuns, int maxWarmupRuns) {
+        if (minWarmupRuns < 0 || maxWarmupRuns < minWarmupRuns) {
+            throw new IllegalArgumentException("Warmup runs must satisfy 0 <= min <= max.");
+        }
+        this.minWarmupRuns = minWarmupRuns;
+        this.maxWarmupRuns = maxWarmupRuns;
+    }
+
+    public void setMaxWarmupMillis(long millis) {
+        this.maxWarmupNanos = millis * 1_000_000;
+    }
+
+    public void setSteadyState(int window, double tolerance) {
+        if (window < 2 || tolerance < 0) {
+            throw new IllegalArgumentException("Steady-state window must be at least 2 and tolerance non-negative.");
+        }
+        this.steadyStateWindow = window;
+        this.steadyStateTolerance = tolerance;
+    }
+
+    public void setMeasuredRuns(int minMeasuredRuns, int measuredRuns) {
+        if (measuredRuns < 1 || minMeasuredRuns < 1 || minMeasuredRuns > measuredRuns) {
+            throw new IllegalArgumentException("Measured runs must satisfy 1 <= min <= max.");
+        }
+        this.minMeasuredRuns = minMeasuredRuns;
+        this.measuredRuns = measuredRuns;
+    }
+
+    public void setMaxMeasureMillis(long millis) {
+        this.maxMeasureNanos = millis * 1_000_000;
+    }
+
+    public void setMaxConsecutiveFailures(int maxConsecutiveFailures) {
+        if (maxConsecutiveFailures < 1) {
+            throw new IllegalArgumentException("Max consecutive failures must be at least 1.");
+        }
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+    }
+
+    public void setOutlierFence(double outlierFence) {
+        this.outlierFence = outlierFence;
+    }
+}
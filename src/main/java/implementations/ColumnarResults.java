@@ -0,0 +1,505 @@
+package implementations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ============================================
+ *       ColumnarResults Class
+ * ============================================
+ * Used For: A compact binary form of the benchmark result tables. The file stores whole columns
+ * one after another, each with a null bitmap and a typed payload:
+ *   INT64    zigzag varints         FLOAT64  8-byte doubles        BOOL  one bit per row
+ *   STRING   a dictionary of the distinct values plus bit-packed codes (solver and puzzle
+ *            names repeat on every row, so each costs a few bits)
+ *   BOARD    the board size, then every cell in just enough bits for its largest value
+ *            (4 bits for 9x9, 5 for 16x16 and 25x25, 6 for 36x36)
+ * Every column records its byte length, so the Reader only decodes the columns that are asked
+ * for. exportCsv() turns a file back into the CSV layout Main writes, e.g.
+ *   java implementations.ColumnarResults results/puzzle_result_extra.col out.csv
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class ColumnarResults {
+    private static final int MAGIC = 0x53445243;
+    private static final int VERSION = 1;
+
+    public enum Type {
+        INT64,
+        FLOAT64,
+        BOOL,
+        STRING,
+        BOARD
+    }
+
+    public static class Writer {
+        private final String[] names;
+        private final Type[] types;
+        private final List<List<Object>> columns = new ArrayList<>();
+        private int rows;
+
+        public Writer(String[] names, Type[] types) {
+            if (names.length != types.length) {
+                throw new IllegalArgumentException("Every column needs exactly one type.");
+            }
+            this.names = names.clone();
+            this.types = types.clone();
+            for (int i = 0; i < names.length; i++) columns.add(new ArrayList<>());
+        }
+
+        // Picks each column's type from its values: boards are int[][], and text columns become
+        // BOOL (Yes/No), INT64, FLOAT64 or STRING depending on what every non-empty value parses as.
+        public static Writer forRows(String[] names, List<? extends Object[]> rows) {
+            Type[] types = new Type[names.length];
+            for (int c = 0; c < names.length; c++) types[c] = inferType(rows, c);
+            Writer writer = new Writer(names, types);
+            for (Object[] row : rows) writer.addRow(row);
+            return writer;
+        }
+
+        // Values may be typed (Number, Boolean, int[][]) or text in the CSV notation; null, ""
+        // and "N/A" are stored as missing.
+        public void addRow(Object... values) {
+            if (values.length != names.length) {
+                throw new IllegalArgumentException("Row must have " + names.length + " values. Got: " + values.length);
+            }
+            for (int c = 0; c < values.length; c++) columns.get(c).add(convert(types[c], names[c], values[c]));
+            rows++;
+        }
+
+        public int getRowCount() {
+            return rows;
+        }
+
+        public void write(Path file) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeInt(out, MAGIC);
+            writeVarint(out, VERSION);
+            writeVarint(out, rows);
+            writeVarint(out, names.length);
+            for (int c = 0; c < names.length; c++) {
+                byte[] payload = encode(types[c], columns.get(c));
+                writeString(out, names[c]);
+                out.write(types[c].ordinal());
+                writeVarint(out, payload.length);
+                out.write(payload, 0, payload.length);
+            }
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Files.write(file, out.toByteArray());
+        }
+
+        private byte[] encode(Type type, List<Object> values) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BitWriter valid = new BitWriter(out);
+            for (Object value : values) valid.write(value != null ? 1 : 0, 1);
+            valid.finish();
+
+            switch (type) {
+                case INT64:
+                    for (Object value : values) {
+                        if (value != null) {
+                            long v = (Long) value;
+                            writeVarint(out, (v << 1) ^ (v >> 63));
+                        }
+                    }
+                    break;
+                case FLOAT64:
+                    for (Object value : values) {
+                        if (value != null) writeLong(out, Double.doubleToLongBits((Double) value));
+                    }
+                    break;
+                case BOOL:
+                    BitWriter flags = new BitWriter(out);
+                    for (Object value : values) flags.write(Boolean.TRUE.equals(value) ? 1 : 0, 1);
+                    flags.finish();
+                    break;
+                case STRING:
+                    Map<String, Integer> dictionary = new LinkedHashMap<>();
+                    for (Object value : values) {
+                        if (value != null) dictionary.putIfAbsent((String) value, dictionary.size());
+                    }
+                    writeVarint(out, dictionary.size());
+                    for (String entry : dictionary.keySet()) writeString(out, entry);
+                    int width = bitsFor(dictionary.size() - 1);
+                    BitWriter codes = new BitWriter(out);
+                    for (Object value : values) {
+                        if (value != null) codes.write(dictionary.get(value), width);
+                    }
+                    codes.finish();
+                    break;
+                default:
+                    for (Object value : values) {
+                        if (value == null) continue;
+                        int[][] board = (int[][]) value;
+                        writeVarint(out, board.length);
+                        int cellWidth = bitsFor(board.length);
+                        BitWriter cells = new BitWriter(out);
+                        for (int[] row : board)
+                            for (int cell : row) cells.write(cell, cellWidth);
+                        cells.finish();
+                    }
+                    break;
+            }
+            return out.toByteArray();
+        }
+
+        private static Object convert(Type type, String name, Object value) {
+            if (value == null || value.equals("") || value.equals("N/A")) return null;
+            try {
+                switch (type) {
+                    case INT64:
+                        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+                    case FLOAT64:
+                        return value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+                    case BOOL:
+                        if (value instanceof Boolean) return value;
+                        if (value.equals("Yes") || value.equals("true")) return Boolean.TRUE;
+                        if (value.equals("No") || value.equals("false")) return Boolean.FALSE;
+                        break;
+                    case STRING:
+                        return value.toString();
+                    default:
+                        if (value instanceof int[][]) {
+                            int[][] board = (int[][]) value;
+                            for (int[] row : board) {
+                                for (int cell : row) {
+                                    if (cell < 0 || cell > board.length) {
+                                        throw new IllegalArgumentException("Board must be NxN and contain values from 0 to N");
+                                    }
+                                }
+                            }
+                            return board;
+                        }
+                        break;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below with the column name.
+            }
+            throw new IllegalArgumentException("Column " + name + " expects " + type + ". Got: " + value);
+        }
+
+        private static Type inferType(List<? extends Object[]> rows, int column) {
+            boolean seen = false;
+            boolean allBool = true;
+            boolean allLong = true;
+            boolean allDouble = true;
+            for (Object[] row : rows) {
+                Object value = row[column];
+                if (value instanceof int[][]) return Type.BOARD;
+                if (value == null || value.equals("") || value.equals("N/A")) continue;
+                seen = true;
+                String text = value.toString();
+                allBool &= text.equals("Yes") || text.equals("No");
+                allLong &= value instanceof Integer || value instanceof Long || isLong(text);
+                allDouble &= value instanceof Number || text.matches("-?\\d+(\\.\\d+)?");
+            }
+            if (!seen) return Type.STRING;
+            return allBool ? Type.BOOL : allLong ? Type.INT64 : allDouble ? Type.FLOAT64 : Type.STRING;
+        }
+
+        private static boolean isLong(String text) {
+            try {
+                Long.parseLong(text);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+
+    public static class Reader {
+        private final ByteBuffer data;
+        private final int rows;
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Type> types = new HashMap<>();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        private Reader(ByteBuffer data) throws IOException {
+            this.data = data;
+            if (data.remaining() < 4 || data.getInt() != MAGIC) throw new IOException("Not a columnar results file");
+            int version = (int) readVarint(data);
+            if (version != VERSION) throw new IOException("Unsupported columnar results version " + version);
+            this.rows = (int) readVarint(data);
+            int columns = (int) readVarint(data);
+            for (int c = 0; c < columns; c++) {
+                String name = readString(data);
+                Type type = Type.values()[data.get()];
+                int length = (int) readVarint(data);
+                names.add(name);
+                types.put(name, type);
+                offsets.put(name, data.position());
+                data.position(data.position() + length);
+            }
+        }
+
+        public static Reader open(Path file) throws IOException {
+            return new Reader(ByteBuffer.wrap(Files.readAllBytes(file)));
+        }
+
+        public int getRowCount() {
+            return rows;
+        }
+
+        public List<String> getColumnNames() {
+            return List.copyOf(names);
+        }
+
+        public Type getType(String column) {
+            Type type = types.get(column);
+            if (type == null) throw new IllegalArgumentException("No column named " + column);
+            return type;
+        }
+
+        public boolean[] getPresent(String column) {
+            getType(column);
+            boolean[] present = new boolean[rows];
+            BitReader bits = new BitReader(payload(column));
+            for (int r = 0; r < rows; r++) present[r] = bits.read(1) == 1;
+            return present;
+        }
+
+        // Missing values read as 0.
+        public long[] getLongs(String column) {
+            ByteBuffer in = values(column, Type.INT64);
+            boolean[] present = getPresent(column);
+            long[] result = new long[rows];
+            for (int r = 0; r < rows; r++) {
+                if (!present[r]) continue;
+                long zigzag = readVarint(in);
+                result[r] = (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            return result;
+        }
+
+        // Missing values read as NaN.
+        public double[] getDoubles(String column) {
+            ByteBuffer in = values(column, Type.FLOAT64);
+            boolean[] present = getPresent(column);
+            double[] result = new double[rows];
+            for (int r = 0; r < rows; r++) result[r] = present[r] ? in.getDouble() : Double.NaN;
+            return result;
+        }
+
+        // Missing values read as false.
+        public boolean[] getBooleans(String column) {
+            BitReader bits = new BitReader(values(column, Type.BOOL));
+            boolean[] present = getPresent(column);
+            boolean[] result = new boolean[rows];
+            for (int r = 0; r < rows; r++) result[r] = bits.read(1) == 1 && present[r];
+            return result;
+        }
+
+        // Rows share the dictionary's String instances; missing values read as null.
+        public String[] getStrings(String column) {
+            ByteBuffer in = values(column, Type.STRING);
+            boolean[] present = getPresent(column);
+            String[] dictionary = new String[(int) readVarint(in)];
+            for (int i = 0; i < dictionary.length; i++) dictionary[i] = readString(in);
+            int width = bitsFor(dictionary.length - 1);
+            BitReader codes = new BitReader(in);
+            String[] result = new String[rows];
+            for (int r = 0; r < rows; r++) {
+                if (present[r]) result[r] = dictionary[codes.read(width)];
+            }
+            return result;
+        }
+
+        // Missing values read as null.
+        public int[][][] getBoards(String column) {
+            ByteBuffer in = values(column, Type.BOARD);
+            boolean[] present = getPresent(column);
+            int[][][] result = new int[rows][][];
+            for (int r = 0; r < rows; r++) {
+                if (!present[r]) continue;
+                int size = (int) readVarint(in);
+                int width = bitsFor(size);
+                // Boards are byte aligned, so a fresh reader drops the padding of the previous one.
+                BitReader cells = new BitReader(in);
+                int[][] board = new int[size][size];
+                for (int[] row : board)
+                    for (int c = 0; c < size; c++) row[c] = cells.read(width);
+                result[r] = board;
+            }
+            return result;
+        }
+
+        // The column in Main's CSV notation: Yes/No for flags, boards as concatenated cells, and
+        // missing values as empty fields.
+        public String[] getText(String column) {
+            String[] text = new String[rows];
+            boolean[] present = getPresent(column);
+            switch (getType(column)) {
+                case INT64:
+                    long[] longs = getLongs(column);
+                    for (int r = 0; r < rows; r++) text[r] = present[r] ? String.valueOf(longs[r]) : "";
+                    break;
+                case FLOAT64:
+                    double[] doubles = getDoubles(column);
+                    for (int r = 0; r < rows; r++) {
+                        text[r] = present[r] ? BigDecimal.valueOf(doubles[r]).stripTrailingZeros().toPlainString() : "";
+                    }
+                    break;
+                case BOOL:
+                    boolean[] flags = getBooleans(column);
+                    for (int r = 0; r < rows; r++) text[r] = present[r] ? (flags[r] ? "Yes" : "No") : "";
+                    break;
+                case STRING:
+                    String[] strings = getStrings(column);
+                    for (int r = 0; r < rows; r++) text[r] = present[r] ? strings[r] : "";
+                    break;
+                default:
+                    int[][][] boards = getBoards(column);
+                    for (int r = 0; r < rows; r++) text[r] = present[r] ? Main.boardToString(boards[r]) : "";
+                    break;
+            }
+            return text;
+        }
+
+        public void exportCsv(java.io.Writer out) throws IOException {
+            String[][] columns = new String[names.size()][];
+            for (int c = 0; c < columns.length; c++) columns[c] = getText(names.get(c));
+            out.write(String.join(",", names));
+            out.write("\n");
+            String[] row = new String[columns.length];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < columns.length; c++) row[c] = columns[c][r];
+                out.write(String.join(",", row));
+                out.write("\n");
+            }
+        }
+
+        private ByteBuffer payload(String column) {
+            ByteBuffer in = data.duplicate();
+            in.position(offsets.get(column));
+            return in;
+        }
+
+        // Positioned after the null bitmap.
+        private ByteBuffer values(String column, Type expected) {
+            Type type = getType(column);
+            if (type != expected) {
+                throw new IllegalArgumentException("Column " + column + " is " + type + ", not " + expected);
+            }
+            ByteBuffer in = payload(column);
+            in.position(in.position() + (rows + 7) / 8);
+            return in;
+        }
+    }
+
+    public static void exportCsv(Path columnarFile, Path csvFile) throws IOException {
+        Reader reader = Reader.open(columnarFile);
+        try (java.io.Writer out = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            reader.exportCsv(out);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: ColumnarResults <results.col> <out.csv>");
+            return;
+        }
+        exportCsv(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    // Least-significant bit first, byte aligned again by finish().
+    private static final class BitWriter {
+        private final ByteArrayOutputStream out;
+        private long buffer;
+        private int bits;
+
+        BitWriter(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void write(int value, int width) {
+            buffer |= (value & ((1L << width) - 1)) << bits;
+            bits += width;
+            while (bits >= 8) {
+                out.write((int) buffer & 0xFF);
+                buffer >>>= 8;
+                bits -= 8;
+            }
+        }
+
+        void finish() {
+            if (bits > 0) out.write((int) buffer & 0xFF);
+            buffer = 0;
+            bits = 0;
+        }
+    }
+
+    private static final class BitReader {
+        private final ByteBuffer in;
+        private long buffer;
+        private int bits;
+
+        BitReader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        int read(int width) {
+            while (bits < width) {
+                buffer |= (long) (in.get() & 0xFF) << bits;
+                bits += 8;
+            }
+            int value = (int) (buffer & ((1L << width) - 1));
+            buffer >>>= width;
+            bits -= width;
+            return value;
+        }
+    }
+
+    static int bitsFor(int maxValue) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(0, maxValue)));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) out.write(value >>> shift);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) out.write((int) (value >>> shift));
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
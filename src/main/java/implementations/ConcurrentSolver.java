@@ -0,0 +1,74 @@
+package implementations;
+
+/*
+ * ============================================
+ *       ConcurrentSolver Class
+ * ============================================
+ * Used For: A thread-safe front door to the four solvers. Each call borrows a solver from the
+ * shared SolverPool, so all working state (board copy, masks, trail, DLX matrix, budget) stays on
+ * the calling thread until the solver is returned. The caller's board is only read, and the
+ * answer comes back as an immutable SolveOutcome. One instance can be shared by all request threads;
+ * every call is also recorded in SolverMetrics.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class ConcurrentSolver {
+    private final SolverPool pool;
+    private final SolverMetrics metrics;
+
+    public ConcurrentSolver() {
+        this(new SolverPool());
+    }
+
+    public ConcurrentSolver(SolverPool pool) {
+        this(pool, SolverMetrics.global());
+    }
+
+    public ConcurrentSolver(SolverPool pool, SolverMetrics metrics) {
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    public SolveOutcome solve(String solverName, int[][] board) {
+        return solve(solverName, board, 0, 0);
+    }
+
+    public SolveOutcome solve(String solverName, int[][] board, long timeoutMillis) {
+        return solve(solverName, board, timeoutMillis, 0);
+    }
+
+    public SolveOutcome solve(String solverName, int[][] board, long timeoutMillis, long maxNodes) {
+        if (board == null || board.length == 0) {
+            throw new IllegalArgumentException("Board must be NxN and contain values from 0 to N");
+        }
+        int N = board.length;
+        ReusableSolver solver = pool.acquire(solverName, N);
+        SolveBudget budget = new SolveBudget(timeoutMillis, maxNodes);
+        int[][] solution = new int[N][N];
+        long start = System.nanoTime();
+        try {
+            solver.setBudget(budget);
+            boolean solved = solver.solveInto(board, solution);
+            long elapsed = System.nanoTime() - start;
+            metrics.record(solverName, N, elapsed, solved ? SolverMetrics.Outcome.SOLVED : SolverMetrics.Outcome.UNSOLVED);
+            return new SolveOutcome(solverName, N, solved ? SolveOutcome.Status.SOLVED : SolveOutcome.Status.UNSOLVABLE,
+                    null, solved ? solution : null, solver.getNumberOfGuesses(), solver.getPropagationDepth(),
+                    budget.getNodes(), elapsed);
+        } catch (SolveBudget.ExhaustedException e) {
+            long elapsed = System.nanoTime() - start;
+            metrics.record(solverName, N, elapsed, SolverMetrics.Outcome.TIMEOUT);
+            return new SolveOutcome(solverName, N, SolveOutcome.Status.EXHAUSTED, e.getReason(), null,
+                    solver.getNumberOfGuesses(), solver.getPropagationDepth(), e.getNodes(), elapsed);
+        } catch (RuntimeException e) {
+            metrics.record(solverName, N, System.nanoTime() - start, SolverMetrics.Outcome.FAILED);
+            throw e;
+        } finally {
+            pool.release(solver);
+        }
+    }
+
+    public SolverPool getPool() {
+        return pool;
+    }
+}
@@ -11,19 +11,32 @@ import java.util.*;
  * ============================================
  */
 
-public class ConstraintPropagationSolver {
+public class ConstraintPropagationSolver implements ReusableSolver {
     private final int N;
-    public int[][] sudoku;
-    public Map<Integer, Set<Integer>> rowConstraints = new HashMap<>();
-    public Map<Integer, Set<Integer>> colConstraints = new HashMap<>();
-    public Map<Integer, Set<Integer>> boxConstraints = new HashMap<>();
-    public Map<String, Set<Integer>> domain = new HashMap<>();
+    private int[][] sudoku;
+    private final Map<Integer, Set<Integer>> rowConstraints = new HashMap<>();
+    private final Map<Integer, Set<Integer>> colConstraints = new HashMap<>();
+    private final Map<Integer, Set<Integer>> boxConstraints = new HashMap<>();
+    private final Map<String, Set<Integer>> domain = new HashMap<>();
 
     private int propagationDepth = 0;
     private int numberOfGuesses = 0;
     private boolean isRunningInUI = false;
     private int stepCount = 0; 
     private List<int[][]> steps = new ArrayList<>(); 
+    private final SolveBudget defaultBudget = SolveBudget.unlimited();
+    private SolveBudget budget = defaultBudget;
+
+    private int[][] peers;
+    private long[] cellDomain;
+    private boolean[] open;
+    private int[] trailCell;
+    private long[] trailMask;
+    private int trailSize;
+    private long[] rowMask;
+    private long[] colMask;
+    private long[] boxMask;
+    private int[][] workingBoard;
 
     public ConstraintPropagationSolver(int N, boolean isRunningInUI) {
         if (Math.sqrt(N) != (int) Math.sqrt(N)) {
@@ -33,8 +46,13 @@ public class ConstraintPropagationSolver {
         this.isRunningInUI = isRunningInUI;
     }
 
-    public void initializeConstraintsAndDomain() {
+    private void initializeConstraintsAndDomain() {
         int boxSize = (int) Math.sqrt(N);
+        for (int i = 0; i < N; i++) {
+            rowConstraints.computeIfAbsent(i, k -> new HashSet<>());
+            colConstraints.computeIfAbsent(i, k -> new HashSet<>());
+            boxConstraints.computeIfAbsent(i, k -> new HashSet<>());
+        }
         for (int row = 0; row < N; row++) {
             for (int col = 0; col < N; col++) {
                 int value = sudoku[row][col];
@@ -68,72 +86,190 @@ public class ConstraintPropagationSolver {
             throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
         }
 
-        this.sudoku = sudoku;
+        // Solve on a private copy so the caller's board is never written to.
+        this.sudoku = new int[N][];
+        for (int i = 0; i < N; i++) this.sudoku[i] = sudoku[i].clone();
         this.propagationDepth = 0;
         this.numberOfGuesses = 0;
-
-        for (int i = 0; i < N; i++) {
-            rowConstraints.put(i, new HashSet<>());
-            colConstraints.put(i, new HashSet<>());
-            boxConstraints.put(i, new HashSet<>());
-        }
-
+        this.budget.start();
+
+        // The search runs on bit masks; the maps still describe the clues and the initial domains,
+        // as BackTrackingSolver's do. solveInto() skips them to stay allocation-free.
+        SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), sudoku);
+        rowConstraints.clear();
+        colConstraints.clear();
+        boxConstraints.clear();
+        domain.clear();
         initializeConstraintsAndDomain();
+        initializeBitDomains();
+        SolverEvents.endPropagationAtClues(propagation, false);
 
-        if (backtrack(new HashMap<>(domain), 0)) {
-            return sudoku;
+        if (search(sudoku)) {
+            return this.sudoku;
         } else {
             return null;
         }
     }
 
-    public boolean backtrack(Map<String, Set<Integer>> currentDomain, int currentDepth) {
-        int boxSize = (int) Math.sqrt(N);
+    public boolean solveInto(int[][] board, int[][] solution) {
+        if (!isValidBoard(board) || !isValidBoard(solution)) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        if (workingBoard == null) workingBoard = new int[N][N];
+        for (int i = 0; i < N; i++) System.arraycopy(board[i], 0, workingBoard[i], 0, N);
 
-        if (currentDomain.isEmpty()) return true;
+        this.sudoku = workingBoard;
+        this.propagationDepth = 0;
+        this.numberOfGuesses = 0;
+        this.budget.start();
+
+        SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), board);
+        initializeBitDomains();
+        SolverEvents.endPropagationAtClues(propagation, false);
+
+        if (!search(board)) return false;
+        for (int i = 0; i < N; i++) System.arraycopy(workingBoard[i], 0, solution[i], 0, N);
+        return true;
+    }
 
-        for (Set<Integer> values : currentDomain.values()) {
-            if (values.isEmpty()) return false;
+    private boolean search(int[][] initialBoard) {
+        SolverEvents.SearchEvent event = SolverEvents.beginSearch(getName(), initialBoard);
+        boolean solvable = false;
+        try {
+            solvable = backtrackBits(0);
+            return solvable;
+        } finally {
+            SolverEvents.endSearch(event, numberOfGuesses, propagationDepth, budget.getNodes(), solvable);
         }
+    }
 
-        propagationDepth = Math.max(propagationDepth, currentDepth);
+    private void initializeBitDomains() {
+        int boxSize = (int) Math.sqrt(N);
+        if (peers == null) peers = buildPeers(boxSize);
+
+        long all = N == 64 ? -1L : (1L << N) - 1;
+        if (rowMask == null) {
+            rowMask = new long[N];
+            colMask = new long[N];
+            boxMask = new long[N];
+            cellDomain = new long[N * N];
+            open = new boolean[N * N];
+            trailCell = new int[N * N];
+            trailMask = new long[N * N];
+        }
+        Arrays.fill(rowMask, 0);
+        Arrays.fill(colMask, 0);
+        Arrays.fill(boxMask, 0);
+        Arrays.fill(cellDomain, 0);
+        Arrays.fill(open, false);
+        for (int row = 0; row < N; row++) {
+            for (int col = 0; col < N; col++) {
+                int value = sudoku[row][col];
+                if (value != 0) {
+                    long bit = 1L << (value - 1);
+                    rowMask[row] |= bit;
+                    colMask[col] |= bit;
+                    boxMask[getBoxIndex(row, col, boxSize)] |= bit;
+                }
+            }
+        }
 
-        String cell = selectCellWithMRV(currentDomain);
-        String[] parts = cell.split(",");
-        int row = Integer.parseInt(parts[0]);
-        int col = Integer.parseInt(parts[1]);
+        for (int row = 0; row < N; row++) {
+            for (int col = 0; col < N; col++) {
+                if (sudoku[row][col] == 0) {
+                    int cell = row * N + col;
+                    open[cell] = true;
+                    cellDomain[cell] = all & ~(rowMask[row] | colMask[col] | boxMask[getBoxIndex(row, col, boxSize)]);
+                }
+            }
+        }
+        trailSize = 0;
+    }
 
-        Set<Integer> valuesToTry = new HashSet<>(currentDomain.get(cell));
-        if (valuesToTry.size() > 1) numberOfGuesses++;
+    private int[][] buildPeers(int boxSize) {
+        int[][] result = new int[N * N][];
+        for (int row = 0; row < N; row++) {
+            for (int col = 0; col < N; col++) {
+                boolean[] isPeer = new boolean[N * N];
+                for (int i = 0; i < N; i++) {
+                    isPeer[row * N + i] = true;
+                    isPeer[i * N + col] = true;
+                }
+                int startRow = (row / boxSize) * boxSize;
+                int startCol = (col / boxSize) * boxSize;
+                for (int r = startRow; r < startRow + boxSize; r++)
+                    for (int c = startCol; c < startCol + boxSize; c++)
+                        isPeer[r * N + c] = true;
+                isPeer[row * N + col] = false;
+
+                int count = 0;
+                for (boolean peer : isPeer) if (peer) count++;
+                int[] cellPeers = new int[count];
+                int idx = 0;
+                for (int other = 0; other < N * N; other++) {
+                    if (isPeer[other]) cellPeers[idx++] = other;
+                }
+                result[row * N + col] = cellPeers;
+            }
+        }
+        return result;
+    }
 
-        for (int value : valuesToTry) {
-            if (rowConstraints.get(row).contains(value)
-                    || colConstraints.get(col).contains(value)
-                    || boxConstraints.get(getBoxIndex(row, col, boxSize)).contains(value)) {
-                continue;
+    private boolean backtrackBits(int currentDepth) {
+        budget.tick();
+
+        int cell = -1;
+        int smallest = Integer.MAX_VALUE;
+        for (int i = 0; i < N * N; i++) {
+            if (!open[i]) continue;
+            int size = Long.bitCount(cellDomain[i]);
+            if (size == 0) return false;
+            if (size < smallest) {
+                smallest = size;
+                cell = i;
             }
+        }
+        if (cell < 0) return true;
 
-            sudoku[row][col] = value;
-            rowConstraints.get(row).add(value);
-            colConstraints.get(col).add(value);
-            boxConstraints.get(getBoxIndex(row, col, boxSize)).add(value);
+        propagationDepth = Math.max(propagationDepth, currentDepth);
+
+        int row = cell / N;
+        int col = cell % N;
+        long values = cellDomain[cell];
+        if (Long.bitCount(values) > 1) numberOfGuesses++;
+
+        open[cell] = false;
+        while (values != 0) {
+            long bit = values & -values;
+            values &= values - 1;
+            sudoku[row][col] = Long.numberOfTrailingZeros(bit) + 1;
 
             if (isRunningInUI) {
-                storeStep(); 
+                storeStep();
             }
 
-            Map<String, Set<Integer>> nextDomain = deepCopy(currentDomain);
-            nextDomain.remove(cell);
-            propagate(row, col, value, nextDomain, boxSize);
+            int mark = trailSize;
+            for (int peer : peers[cell]) {
+                if (open[peer] && (cellDomain[peer] & bit) != 0) {
+                    if (trailSize == trailCell.length) {
+                        trailCell = Arrays.copyOf(trailCell, trailSize * 2);
+                        trailMask = Arrays.copyOf(trailMask, trailSize * 2);
+                    }
+                    trailCell[trailSize] = peer;
+                    trailMask[trailSize++] = cellDomain[peer];
+                    cellDomain[peer] &= ~bit;
+                }
+            }
 
-            if (backtrack(nextDomain, currentDepth + 1)) return true;
+            if (backtrackBits(currentDepth + 1)) return true;
 
+            while (trailSize > mark) {
+                trailSize--;
+                cellDomain[trailCell[trailSize]] = trailMask[trailSize];
+            }
             sudoku[row][col] = 0;
-            rowConstraints.get(row).remove(value);
-            colConstraints.get(col).remove(value);
-            boxConstraints.get(getBoxIndex(row, col, boxSize)).remove(value);
         }
-
+        open[cell] = true;
         return false;
     }
 
@@ -192,6 +328,25 @@ public class ConstraintPropagationSolver {
         stepCount++;
     }
 
+    // The clues of the last solve() in one row, column or box, as a read-only view.
+    public Set<Integer> getRowConstraints(int row) {
+        return Collections.unmodifiableSet(rowConstraints.getOrDefault(row, Set.of()));
+    }
+
+    public Set<Integer> getColConstraints(int col) {
+        return Collections.unmodifiableSet(colConstraints.getOrDefault(col, Set.of()));
+    }
+
+    public Set<Integer> getBoxConstraints(int box) {
+        return Collections.unmodifiableSet(boxConstraints.getOrDefault(box, Set.of()));
+    }
+
+    // The initial candidates of an empty cell in the last solve(), or null for a clue.
+    public Set<Integer> getDomain(int row, int col) {
+        Set<Integer> values = domain.get(row + "," + col);
+        return values == null ? null : Collections.unmodifiableSet(values);
+    }
+
     public int getPropagationDepth() {
         return propagationDepth;
     }
@@ -207,4 +362,24 @@ public class ConstraintPropagationSolver {
     public int getStepCount() {
         return stepCount;  
     }
+
+    public void setBudget(SolveBudget budget) {
+        this.budget = budget;
+    }
+
+    public String getName() {
+        return "ConstraintPropagation";
+    }
+
+    public int getSize() {
+        return N;
+    }
+
+    public void reset() {
+        propagationDepth = 0;
+        numberOfGuesses = 0;
+        budget = defaultBudget;
+        steps.clear();
+        stepCount = 0;
+    }
 }
@@ -1,6 +1,9 @@
 package implementations;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /*
  * ============================================
@@ -11,17 +14,31 @@ import java.util.*;
  * ============================================
  */
 
-public class DLXSolver {
+public class DLXSolver implements ReusableSolver {
     private final int N;
     private final int CONSTRAINTS;
 
-    public int[][] sudoku;
-    public int[][] initialPuzzle; 
+    private int[][] sudoku;
+    private int[][] initialPuzzle;
     private int propagationDepth = 0;
     private int numberOfGuesses = 0;
     private boolean isRunningInUI = false;
     private int stepCount = 0;
     private List<int[][]> steps = new ArrayList<>();
+    private long solutionCount = 0;
+    private long solutionLimit = 0;
+    private AtomicLong sharedSolutionCount;
+    private final SolveBudget defaultBudget = SolveBudget.unlimited();
+    private SolveBudget budget = defaultBudget;
+    private boolean iterative = true;
+    private boolean compactBuild = true;
+    private ColumnHeader[] columnAt;
+    private DLXNode[] rowAt;
+    private int foundLevel;
+    private DLXHeader reusableMatrix;
+    private DLXNode[] rowById;
+    private DLXNode[] presetRows;
+    private long[] clueSeen;
 
     public DLXSolver(int N, boolean isRunningInUI) {
         if (Math.sqrt(N) != (int) Math.sqrt(N)) {
@@ -75,6 +92,11 @@ public class DLXSolver {
         public ColumnHeader[] columns;
 
         public DLXHeader() {
+            this(new boolean[CONSTRAINTS]);
+        }
+
+        // Satisfied columns still get a header (ids stay the same) but are left out of the list.
+        DLXHeader(boolean[] satisfied) {
             head = new ColumnHeader(-1);
             columns = new ColumnHeader[CONSTRAINTS];
 
@@ -82,6 +104,7 @@ public class DLXSolver {
             for (int i = 0; i < CONSTRAINTS; i++) {
                 ColumnHeader col = new ColumnHeader(i);
                 columns[i] = col;
+                if (satisfied[i]) continue;
                 prev.linkRight(col);
                 prev = col;
             }
@@ -89,45 +112,88 @@ public class DLXSolver {
     }
 
     public DLXHeader buildDLXStructure(int[][] board, List<DLXNode> presetRows) {
+        SolverEvents.MatrixBuildEvent event = SolverEvents.beginMatrixBuild(board, false);
         DLXHeader dlx = new DLXHeader();
         int boxSize = (int) Math.sqrt(N);
+        int rows = 0;
 
         for (int r = 0; r < N; r++) {
             for (int c = 0; c < N; c++) {
                 for (int d = 1; d <= N; d++) {
                     if (board[r][c] != 0 && board[r][c] != d) continue;
 
-                    int cellCol = r * N + c;
-                    int rowCol = N * N + r * N + (d - 1);
-                    int colCol = 2 * N * N + c * N + (d - 1);
-                    int boxId = (r / boxSize) * boxSize + (c / boxSize);
-                    int boxCol = 3 * N * N + boxId * N + (d - 1);
-
-                    DLXNode[] nodes = new DLXNode[4];
-                    int[] constraintIndices = {cellCol, rowCol, colCol, boxCol};
-                    for (int i = 0; i < 4; i++) {
-                        nodes[i] = new DLXNode();
-                        nodes[i].rowId = r * N * N + c * N + (d - 1);
-                        ColumnHeader col = dlx.columns[constraintIndices[i]];
-                        nodes[i].column = col;
-                        col.linkDown(nodes[i]);
-                        col.size++;
+                    DLXNode first = linkMatrixRow(dlx, r, c, d, constraintColumns(r, c, d, boxSize));
+                    rows++;
+                    if (board[r][c] == d) {
+                        presetRows.add(first);
                     }
+                }
+            }
+        }
+        SolverEvents.endMatrixBuild(event, rows);
+        return dlx;
+    }
 
-                    nodes[0].right = nodes[1]; nodes[1].left = nodes[0];
-                    nodes[1].right = nodes[2]; nodes[2].left = nodes[1];
-                    nodes[2].right = nodes[3]; nodes[3].left = nodes[2];
-                    nodes[3].right = nodes[0]; nodes[0].left = nodes[3];
+    // Builds the matrix as it looks after every clue row has been covered: clue cells get no
+    // rows, digits already placed in the same row, column or box get no rows, and the columns
+    // the clues satisfy are never linked in. Rows keep the same order as in buildDLXStructure,
+    // so the search takes exactly the same path.
+    public DLXHeader buildCompactDLXStructure(int[][] board) {
+        SolverEvents.MatrixBuildEvent event = SolverEvents.beginMatrixBuild(board, true);
+        int boxSize = (int) Math.sqrt(N);
+        int rows = 0;
+        boolean[] satisfied = new boolean[CONSTRAINTS];
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                if (board[r][c] == 0) continue;
+                for (int column : constraintColumns(r, c, board[r][c], boxSize)) satisfied[column] = true;
+            }
+        }
 
-                    if (board[r][c] == d) {
-                        presetRows.add(nodes[0]);
-                    }
+        DLXHeader dlx = new DLXHeader(satisfied);
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                if (board[r][c] != 0) continue;
+                for (int d = 1; d <= N; d++) {
+                    int[] columns = constraintColumns(r, c, d, boxSize);
+                    if (satisfied[columns[1]] || satisfied[columns[2]] || satisfied[columns[3]]) continue;
+                    linkMatrixRow(dlx, r, c, d, columns);
+                    rows++;
                 }
             }
         }
+        SolverEvents.endMatrixBuild(event, rows);
         return dlx;
     }
 
+    private int[] constraintColumns(int r, int c, int d, int boxSize) {
+        int boxId = (r / boxSize) * boxSize + (c / boxSize);
+        return new int[]{
+            r * N + c,
+            N * N + r * N + (d - 1),
+            2 * N * N + c * N + (d - 1),
+            3 * N * N + boxId * N + (d - 1)
+        };
+    }
+
+    private DLXNode linkMatrixRow(DLXHeader dlx, int r, int c, int d, int[] constraintIndices) {
+        DLXNode[] nodes = new DLXNode[4];
+        for (int i = 0; i < 4; i++) {
+            nodes[i] = new DLXNode();
+            nodes[i].rowId = r * N * N + c * N + (d - 1);
+            ColumnHeader col = dlx.columns[constraintIndices[i]];
+            nodes[i].column = col;
+            col.linkDown(nodes[i]);
+            col.size++;
+        }
+
+        nodes[0].right = nodes[1]; nodes[1].left = nodes[0];
+        nodes[1].right = nodes[2]; nodes[2].left = nodes[1];
+        nodes[2].right = nodes[3]; nodes[3].left = nodes[2];
+        nodes[3].right = nodes[0]; nodes[0].left = nodes[3];
+        return nodes[0];
+    }
+
     public int[][] solve(int[][] board) {
         if (!isValidBoard(board)) {
             throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
@@ -138,15 +204,25 @@ public class DLXSolver {
         if (isRunningInUI) {
             storeStep(); 
         }
-        List<DLXNode> preset = new ArrayList<>();
-        DLXHeader dlx = buildDLXStructure(sudoku, preset);
         List<DLXNode> solution = new ArrayList<>();
-
-        for (DLXNode node : preset) {
-            for (DLXNode j = node.right; j != node; j = j.right)
-                cover(j.column);
-            cover(node.column);
-            solution.add(node);
+        DLXHeader dlx;
+        if (compactBuild) {
+            SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), board);
+            boolean conflicting = hasConflictingClues(board);
+            SolverEvents.endPropagationAtClues(propagation, conflicting);
+            if (conflicting) return null;
+            dlx = buildCompactDLXStructure(sudoku);
+        } else {
+            List<DLXNode> preset = new ArrayList<>();
+            dlx = buildDLXStructure(sudoku, preset);
+            SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), board);
+            for (DLXNode node : preset) {
+                for (DLXNode j = node.right; j != node; j = j.right)
+                    cover(j.column);
+                cover(node.column);
+                solution.add(node);
+            }
+            SolverEvents.endPropagation(propagation, preset.size(), false);
         }
         if (isRunningInUI) {
             updateSudokuFromSolution(solution);
@@ -155,9 +231,298 @@ public class DLXSolver {
 
         propagationDepth = 0;
         numberOfGuesses = 0;
+        budget.start();
+
+        SolverEvents.SearchEvent searchEvent = SolverEvents.beginSearch(getName(), board);
+        boolean found = false;
+        try {
+            if (!iterative) {
+                int[][] result = search(dlx.head, solution, 0);
+                found = result != null;
+                return result;
+            }
+            found = runAlgorithmX(dlx.head, solution, false);
+        } finally {
+            SolverEvents.endSearch(searchEvent, numberOfGuesses, propagationDepth, budget.getNodes(), found);
+        }
+        if (!found) return null;
 
-        int[][] solved = search(dlx.head, solution, 0);
-        return solved;
+        if (!isRunningInUI) {
+            for (int i = 0; i < foundLevel; i++) solution.add(rowAt[i]);
+        }
+        int[][] result = decodeSolution(solution);
+        if (isRunningInUI) {
+            sudoku = copyBoard(result);
+            storeStep();
+        }
+        return result;
+    }
+
+    // Reusable path: the full 4N^3-node matrix is built once per instance. Each call covers the
+    // clue rows, searches, writes the chosen rows into the caller's array and then uncovers
+    // everything in reverse, leaving the matrix exactly as built for the next board.
+    public boolean solveInto(int[][] board, int[][] solution) {
+        if (!isValidBoard(board) || !isValidBoard(solution)) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        if (reusableMatrix == null) {
+            reusableMatrix = buildDLXStructure(new int[N][N], new ArrayList<>());
+            rowById = new DLXNode[N * N * N];
+            for (int cell = 0; cell < N * N; cell++) {
+                ColumnHeader col = reusableMatrix.columns[cell];
+                for (DLXNode node = col.down; node != col; node = node.down) rowById[node.rowId] = node;
+            }
+            presetRows = new DLXNode[N * N];
+            clueSeen = new long[3 * N];
+        }
+
+        propagationDepth = 0;
+        numberOfGuesses = 0;
+        budget.start();
+        SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), board);
+        if (hasConflictingCluesReusing(board)) {
+            SolverEvents.endPropagation(propagation, 0, true);
+            return false;
+        }
+
+        int presets = 0;
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                if (board[r][c] == 0) continue;
+                DLXNode node = rowById[r * N * N + c * N + board[r][c] - 1];
+                for (DLXNode j = node.right; j != node; j = j.right) cover(j.column);
+                cover(node.column);
+                presetRows[presets++] = node;
+            }
+        }
+        SolverEvents.endPropagation(propagation, presets, false);
+
+        SolverEvents.SearchEvent searchEvent = SolverEvents.beginSearch(getName(), board);
+        boolean found = false;
+        try {
+            found = runAlgorithmX(reusableMatrix.head, null, false);
+            if (found) {
+                for (int r = 0; r < N; r++) System.arraycopy(board[r], 0, solution[r], 0, N);
+                for (int i = 0; i < foundLevel; i++) {
+                    int rowId = rowAt[i].rowId;
+                    solution[rowId / (N * N)][(rowId / N) % N] = rowId % N + 1;
+                }
+                unwindLevels(foundLevel);
+            }
+        } finally {
+            SolverEvents.endSearch(searchEvent, numberOfGuesses, propagationDepth, budget.getNodes(), found);
+            for (int i = presets - 1; i >= 0; i--) {
+                DLXNode node = presetRows[i];
+                uncover(node.column);
+                for (DLXNode j = node.left; j != node; j = j.left) uncover(j.column);
+            }
+        }
+        return found;
+    }
+
+    private boolean hasConflictingCluesReusing(int[][] board) {
+        int boxSize = (int) Math.sqrt(N);
+        Arrays.fill(clueSeen, 0);
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int d = board[r][c];
+                if (d == 0) continue;
+                long bit = 1L << (d - 1);
+                int box = 2 * N + (r / boxSize) * boxSize + (c / boxSize);
+                if (((clueSeen[r] | clueSeen[N + c] | clueSeen[box]) & bit) != 0) return true;
+                clueSeen[r] |= bit;
+                clueSeen[N + c] |= bit;
+                clueSeen[box] |= bit;
+            }
+        }
+        return false;
+    }
+
+    public long countSolutions(int[][] board, long limit) {
+        if (!isValidBoard(board)) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        if (limit <= 0 || hasConflictingClues(board)) return 0;
+
+        DLXHeader dlx = buildCoveredStructure(board);
+        propagationDepth = 0;
+        numberOfGuesses = 0;
+        solutionCount = 0;
+        solutionLimit = limit;
+        budget.start();
+        runAlgorithmX(dlx.head, null, true);
+        return solutionCount;
+    }
+
+    public boolean hasUniqueSolution(int[][] board) {
+        return countSolutions(board, 2) == 1;
+    }
+
+    public long countSolutionsParallel(int[][] board, long limit) {
+        if (!isValidBoard(board)) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        if (limit <= 0 || hasConflictingClues(board)) return 0;
+
+        DLXHeader dlx = buildCoveredStructure(board);
+        if (dlx.head.right == dlx.head) return 1;
+
+        ColumnHeader col = chooseColumnWithFewestNodes(dlx.head);
+        List<int[][]> branches = new ArrayList<>();
+        for (DLXNode row = col.down; row != col; row = row.down) {
+            int[][] branch = copyBoard(board);
+            branch[row.rowId / (N * N)][(row.rowId / N) % N] = row.rowId % N + 1;
+            branches.add(branch);
+        }
+
+        // Workers run on child budgets of this solver's budget, so the caller's deadline, node
+        // budget and cancel() reach every branch. The first worker to run out stops the others and
+        // its exception is the one rethrown.
+        budget.start();
+        AtomicLong found = new AtomicLong();
+        Queue<SolveBudget> workerBudgets = new ConcurrentLinkedQueue<>();
+        AtomicReference<SolveBudget.ExhaustedException> exhausted = new AtomicReference<>();
+        branches.parallelStream().forEach(branch -> {
+            if (found.get() >= limit || exhausted.get() != null) return;
+            SolveBudget workerBudget = budget.child();
+            workerBudgets.add(workerBudget);
+            if (exhausted.get() != null) return;
+            DLXSolver worker = new DLXSolver(N, false);
+            worker.sharedSolutionCount = found;
+            worker.setBudget(workerBudget);
+            try {
+                worker.countSolutions(branch, limit);
+            } catch (SolveBudget.ExhaustedException e) {
+                if (exhausted.compareAndSet(null, e)) workerBudgets.forEach(SolveBudget::cancel);
+            } finally {
+                workerBudget.flushToParent();
+            }
+        });
+        if (exhausted.get() != null) throw exhausted.get();
+        return Math.min(found.get(), limit);
+    }
+
+    private DLXHeader buildCoveredStructure(int[][] board) {
+        if (compactBuild) return buildCompactDLXStructure(board);
+        List<DLXNode> preset = new ArrayList<>();
+        DLXHeader dlx = buildDLXStructure(board, preset);
+        for (DLXNode node : preset) {
+            for (DLXNode j = node.right; j != node; j = j.right)
+                cover(j.column);
+            cover(node.column);
+        }
+        return dlx;
+    }
+
+    // Iterative form of search: the chosen column and the current row of each level live in two
+    // fixed arrays (a level covers at least one cell column, so N*N + 1 levels suffice), and a
+    // level's cursor sitting on its column header means "no row tried yet". Nodes, guesses, depth
+    // and UI steps are recorded exactly as the recursive version records them. In counting mode
+    // every complete cover is counted and the search backs out once the limit is reached.
+    // On success the rows of levels 0..foundLevel-1 are still covered in rowAt; if the budget
+    // runs out, every covered level is uncovered before the exception propagates.
+    private boolean runAlgorithmX(ColumnHeader head, List<DLXNode> solution, boolean counting) {
+        if (columnAt == null) {
+            columnAt = new ColumnHeader[N * N + 1];
+            rowAt = new DLXNode[N * N + 1];
+        }
+        boolean tracking = isRunningInUI && solution != null && !counting;
+        int level = 0;
+
+        try {
+            while (true) {
+                budget.tick();
+                propagationDepth = Math.max(propagationDepth, level);
+
+                ColumnHeader col = null;
+                if (head.right == head) {
+                    if (!counting) {
+                        foundLevel = level;
+                        return true;
+                    }
+                    solutionCount++;
+                    if (sharedSolutionCount != null) sharedSolutionCount.incrementAndGet();
+                } else {
+                    col = chooseColumnWithFewestNodes(head);
+                }
+
+                if (col != null && col.size > 0) {
+                    cover(col);
+                    columnAt[level] = col;
+                    rowAt[level] = col;
+                } else {
+                    level--;
+                }
+
+                while (level >= 0) {
+                    DLXNode row = rowAt[level];
+                    if (row != columnAt[level]) {
+                        for (DLXNode j = row.left; j != row; j = j.left) uncover(j.column);
+                        if (tracking) {
+                            solution.remove(solution.size() - 1);
+                            updateSudokuFromSolution(solution);
+                            storeStep();
+                        }
+                    }
+
+                    row = counting && solutionLimitReached() ? columnAt[level] : row.down;
+                    if (row != columnAt[level]) {
+                        numberOfGuesses++;
+                        rowAt[level] = row;
+                        if (tracking) {
+                            DLXNode n = row;
+                            do {
+                                if (n.column.id < N * N) break;
+                                n = n.right;
+                            } while (n != row);
+                            solution.add(n);
+                            updateSudokuFromSolution(solution);
+                            storeStep();
+                        }
+                        for (DLXNode j = row.right; j != row; j = j.right) cover(j.column);
+                        level++;
+                        break;
+                    }
+
+                    uncover(columnAt[level]);
+                    level--;
+                }
+                if (level < 0) return false;
+            }
+        } catch (SolveBudget.ExhaustedException e) {
+            unwindLevels(level);
+            throw e;
+        }
+    }
+
+    private void unwindLevels(int levels) {
+        for (int level = levels - 1; level >= 0; level--) {
+            DLXNode row = rowAt[level];
+            for (DLXNode j = row.left; j != row; j = j.left) uncover(j.column);
+            uncover(columnAt[level]);
+        }
+    }
+
+    private boolean solutionLimitReached() {
+        if (sharedSolutionCount != null) return sharedSolutionCount.get() >= solutionLimit;
+        return solutionCount >= solutionLimit;
+    }
+
+    private boolean hasConflictingClues(int[][] board) {
+        int boxSize = (int) Math.sqrt(N);
+        boolean[][] seenRow = new boolean[N][N + 1];
+        boolean[][] seenCol = new boolean[N][N + 1];
+        boolean[][] seenBox = new boolean[N][N + 1];
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int d = board[r][c];
+                if (d == 0) continue;
+                int box = (r / boxSize) * boxSize + (c / boxSize);
+                if (seenRow[r][d] || seenCol[c][d] || seenBox[box][d]) return true;
+                seenRow[r][d] = seenCol[c][d] = seenBox[box][d] = true;
+            }
+        }
+        return false;
     }
 
     private boolean isValidBoard(int[][] board) {
@@ -197,6 +562,7 @@ public class DLXSolver {
     }
 
     public int[][] search(ColumnHeader head, List<DLXNode> solution, int depth) {
+        budget.tick();
         propagationDepth = Math.max(propagationDepth, depth);
 
         if (head.right == head) {
@@ -278,8 +644,9 @@ public class DLXSolver {
         }
     }
 
+    // Starts from the last solve()'s clues; before any solve the preset rows in the list carry them.
     public int[][] decodeSolution(List<DLXNode> solution) {
-        int[][] board = copyBoard(initialPuzzle);
+        int[][] board = initialPuzzle != null ? copyBoard(initialPuzzle) : new int[N][N];
         for (DLXNode node : solution) {
             DLXNode cellNode = node;
             DLXNode temp = node;
@@ -301,6 +668,12 @@ public class DLXSolver {
         return board;
     }
 
+    // A copy of the board the last solve() ended on (its solution when it found one), or null
+    // before any solve; countSolutions() never builds one.
+    public int[][] getLastBoard() {
+        return sudoku == null ? null : copyBoard(sudoku);
+    }
+
     public int getPropagationDepth() {
         return propagationDepth;
     }
@@ -321,6 +694,34 @@ public class DLXSolver {
         return stepCount;
     }
 
+    public void setBudget(SolveBudget budget) {
+        this.budget = budget;
+    }
+
+    public void setIterative(boolean iterative) {
+        this.iterative = iterative;
+    }
+
+    public void setCompactBuild(boolean compactBuild) {
+        this.compactBuild = compactBuild;
+    }
+
+    public String getName() {
+        return "DLX";
+    }
+
+    public int getSize() {
+        return N;
+    }
+
+    public void reset() {
+        propagationDepth = 0;
+        numberOfGuesses = 0;
+        budget = defaultBudget;
+        steps.clear();
+        stepCount = 0;
+    }
+
     public List<int[][]> getSteps() {
         return steps;
     }
@@ -11,15 +11,41 @@ import java.util.*;
  * ============================================
  */
 
-public class DPLLSATSolver {
+public class DPLLSATSolver implements ReusableSolver {
     public final int N;
     public final int maxRecursionDepth;
-    public final Map<Integer, Boolean> variableAssignments = new HashMap<>();
-    public int maxPropagationDepth = 0;
-    public int totalGuessCount = 0;
-    public boolean isRunningInUI = false;
-    public int stepCount = 0;
-    public List<int[][]> steps = new ArrayList<>();  
+    private final Map<Integer, Boolean> variableAssignments = new HashMap<>();
+    private int maxPropagationDepth = 0;
+    private int totalGuessCount = 0;
+    private boolean isRunningInUI = false;
+    private int stepCount = 0;
+    private List<int[][]> steps = new ArrayList<>();
+    private final SolveBudget defaultBudget = SolveBudget.unlimited();
+    private SolveBudget budget = defaultBudget;
+
+    // Iterative engine state: assignment per variable (1 true, -1 false, 0 free), the trail of
+    // assigned literals, one entry per decision level, and two watched literals per clause.
+    private int[][] clauses;
+    private int[] longClauses;
+    private int numVars;
+    private int[] assign;
+    private int[] trail;
+    private int trailSize;
+    private int propagateHead;
+    private int[] levelStart;
+    private int[] decisionLiteral;
+    private boolean[] flipped;
+    private int level;
+    private int[][] watches;
+    private int[] watchCount;
+
+    // Incremental mode: the engine is loaded once from the shared base CNF for N and the clues of
+    // each puzzle are enqueued as assumptions at level 0, so watches and arrays are reused.
+    private boolean incremental = true;
+    private boolean baseLoaded = false;
+    private boolean baseSatisfiable = true;
+    private int[] baseUnits = new int[0];
+    private int[] clueBuffer;
 
     public DPLLSATSolver(int N, boolean isRunningInUI) {
         int root = (int) Math.sqrt(N);
@@ -27,25 +53,328 @@ public class DPLLSATSolver {
             throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
         }
         this.N = N;
-        this.maxRecursionDepth = N * N * N;
+        this.maxRecursionDepth = SudokuCnfEncoder.variableCount(N);
         this.isRunningInUI = isRunningInUI;
     }
 
     public int[][] solve(int[][] board) {
         if (board.length != N || board[0].length != N) return null;
+        for (int[] row : board) {
+            if (row.length != N) return null;
+            for (int value : row) {
+                if (value < 0 || value > N) return null;
+            }
+        }
 
         SudokuCnfEncoder encoder = new SudokuCnfEncoder(N);
-        int[][] cnfClauses = encoder.encodeSudoku(board);
 
         variableAssignments.clear();
         maxPropagationDepth = 0;
         totalGuessCount = 0;
+        budget.start();
 
-        boolean satisfiable = runDPLL(cnfClauses, 0);
+        boolean satisfiable = incremental
+                ? solveWithAssumptions(encoder.clueLiterals(board))
+                : runIterativeDPLL(encoder.encodeSudoku(board));
         return satisfiable ? decodeAssignmentsToBoard() : null;
     }
 
+    public boolean solveWithAssumptions(int[] assumptions) {
+        boolean satisfiable = solveAssuming(assumptions, assumptions.length);
+        if (satisfiable) recordAssignments();
+        return satisfiable;
+    }
+
+    public boolean solveInto(int[][] board, int[][] solution) {
+        if (!isValidBoard(board) || !isValidBoard(solution)) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        if (clueBuffer == null) clueBuffer = new int[N * N];
+        int count = 0;
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                if (board[r][c] != 0) clueBuffer[count++] = r * N * N + c * N + board[r][c];
+            }
+        }
+
+        maxPropagationDepth = 0;
+        totalGuessCount = 0;
+        budget.start();
+        if (!solveAssuming(clueBuffer, count)) return false;
+
+        for (int var = 1; var <= N * N * N; var++) {
+            if (assign[var] <= 0) continue;
+            int index = var - 1;
+            solution[index / (N * N)][(index / N) % N] = index % N + 1;
+        }
+        return true;
+    }
+
+    private boolean solveAssuming(int[] assumptions, int count) {
+        if (!baseLoaded) {
+            int[][] base = SudokuCnfEncoder.baseClauses(N);
+            int[][] copy = new int[base.length][];
+            for (int i = 0; i < base.length; i++) copy[i] = base[i].clone();
+            baseSatisfiable = initializeEngine(copy);
+            baseUnits = Arrays.copyOf(trail, trailSize);
+            baseLoaded = true;
+        }
+        if (!baseSatisfiable) return false;
+
+        undoTo(0);
+        level = 0;
+        SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), N, count);
+        for (int literal : baseUnits) enqueue(literal);
+        for (int i = 0; i < count; i++) {
+            int literal = assumptions[i];
+            int value = valueOf(literal);
+            if (value < 0) {
+                SolverEvents.endPropagation(propagation, trailSize, true);
+                return false;
+            }
+            if (value == 0) enqueue(literal);
+        }
+        return propagateThenSearch(propagation, count);
+    }
+
+    // Level-0 unit propagation is reported as its own phase; search() then starts from a fully
+    // propagated trail, so its first propagate() finds nothing left to do.
+    private boolean propagateThenSearch(SolverEvents.PropagationEvent propagation, int clues) {
+        boolean conflict = propagate() >= 0;
+        SolverEvents.endPropagation(propagation, trailSize, conflict);
+        if (conflict) return false;
+
+        SolverEvents.SearchEvent event = SolverEvents.beginSearch(getName(), N, clues);
+        boolean satisfiable = false;
+        try {
+            satisfiable = search();
+            return satisfiable;
+        } finally {
+            SolverEvents.endSearch(event, totalGuessCount, maxPropagationDepth, budget.getNodes(), satisfiable);
+        }
+    }
+
+    // Same search as runDPLL (unit propagation, then try a literal and its negation), but driven
+    // by an explicit trail and decision stack so depth is bounded by the variable count rather
+    // than the thread stack, and clauses are never copied per level.
+    public boolean runIterativeDPLL(int[][] cnfClauses) {
+        baseLoaded = false;
+        SolverEvents.PropagationEvent propagation = SolverEvents.beginPropagation(getName(), N, 0);
+        if (!initializeEngine(cnfClauses)) {
+            SolverEvents.endPropagation(propagation, trailSize, true);
+            return false;
+        }
+        boolean satisfiable = propagateThenSearch(propagation, trailSize);
+        if (satisfiable) recordAssignments();
+        return satisfiable;
+    }
+
+    private void recordAssignments() {
+        for (int v = 1; v <= numVars; v++) {
+            if (assign[v] != 0) variableAssignments.put(v, assign[v] > 0);
+        }
+    }
+
+    private boolean search() {
+        while (true) {
+            if (propagate() >= 0) {
+                if (!backtrackToUntriedBranch()) return false;
+                continue;
+            }
+
+            int literal = chooseDecisionLiteral();
+            if (literal == 0) return true;
+
+            totalGuessCount++;
+            levelStart[level] = trailSize;
+            decisionLiteral[level] = literal;
+            flipped[level] = false;
+            level++;
+            enqueue(literal);
+        }
+    }
+
+    private boolean initializeEngine(int[][] cnfClauses) {
+        numVars = 0;
+        int longCount = 0;
+        for (int[] clause : cnfClauses) {
+            for (int literal : clause) numVars = Math.max(numVars, Math.abs(literal));
+            if (clause.length > 2) longCount++;
+        }
+
+        clauses = cnfClauses;
+        longClauses = new int[longCount];
+        assign = new int[numVars + 1];
+        trail = new int[numVars];
+        trailSize = 0;
+        propagateHead = 0;
+        levelStart = new int[numVars + 1];
+        decisionLiteral = new int[numVars + 1];
+        flipped = new boolean[numVars + 1];
+        level = 0;
+        watches = new int[2 * numVars + 2][];
+        watchCount = new int[2 * numVars + 2];
+
+        int next = 0;
+        for (int i = 0; i < cnfClauses.length; i++) {
+            int[] clause = cnfClauses[i];
+            if (clause.length == 0) return false;
+            if (clause.length == 1) {
+                int value = valueOf(clause[0]);
+                if (value < 0) return false;
+                if (value == 0) enqueue(clause[0]);
+                continue;
+            }
+            if (clause.length > 2) longClauses[next++] = i;
+            addWatch(clause[0], i);
+            addWatch(clause[1], i);
+        }
+        return true;
+    }
+
+    // Returns the index of a falsified clause, or -1 once every queued literal is propagated.
+    private int propagate() {
+        while (propagateHead < trailSize) {
+            // Ticked here, between watch lists, so an exhausted budget never leaves a list half
+            // compacted and a reused engine stays consistent.
+            budget.tick();
+            int falseLiteral = -trail[propagateHead++];
+            int index = watchIndex(falseLiteral);
+            int[] list = watches[index];
+            int count = watchCount[index];
+            int kept = 0;
+
+            for (int k = 0; k < count; k++) {
+                int ci = list[k];
+                int[] clause = clauses[ci];
+                if (clause[0] == falseLiteral) {
+                    clause[0] = clause[1];
+                    clause[1] = falseLiteral;
+                }
+                if (valueOf(clause[0]) > 0) {
+                    list[kept++] = ci;
+                    continue;
+                }
+
+                boolean moved = false;
+                for (int j = 2; j < clause.length; j++) {
+                    if (valueOf(clause[j]) >= 0) {
+                        clause[1] = clause[j];
+                        clause[j] = falseLiteral;
+                        addWatch(clause[1], ci);
+                        moved = true;
+                        break;
+                    }
+                }
+                if (moved) continue;
+
+                list[kept++] = ci;
+                if (valueOf(clause[0]) < 0) {
+                    for (k++; k < count; k++) list[kept++] = list[k];
+                    watchCount[index] = kept;
+                    propagateHead = trailSize;
+                    return ci;
+                }
+                enqueue(clause[0]);
+            }
+            watchCount[index] = kept;
+        }
+        return -1;
+    }
+
+    private boolean backtrackToUntriedBranch() {
+        while (level > 0) {
+            level--;
+            undoTo(levelStart[level]);
+            if (!flipped[level]) {
+                int literal = -decisionLiteral[level];
+                decisionLiteral[level] = literal;
+                flipped[level] = true;
+                level++;
+                enqueue(literal);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Branches on the first free literal of the open multi-literal clause with the fewest free
+    // literals (for Sudoku, the cell/unit with the fewest candidates); any variable left over
+    // after every such clause is satisfied is tried false first.
+    private int chooseDecisionLiteral() {
+        int best = 0;
+        int bestFree = Integer.MAX_VALUE;
+        for (int ci : longClauses) {
+            int[] clause = clauses[ci];
+            int free = 0;
+            int first = 0;
+            boolean satisfied = false;
+            for (int literal : clause) {
+                int value = valueOf(literal);
+                if (value > 0) {
+                    satisfied = true;
+                    break;
+                }
+                if (value == 0) {
+                    if (free == 0) first = literal;
+                    free++;
+                }
+            }
+            if (!satisfied && free > 0 && free < bestFree) {
+                bestFree = free;
+                best = first;
+                if (free == 2) break;
+            }
+        }
+        if (best != 0) return best;
+
+        for (int v = 1; v <= numVars; v++) {
+            if (assign[v] == 0) return -v;
+        }
+        return 0;
+    }
+
+    private void enqueue(int literal) {
+        int v = Math.abs(literal);
+        assign[v] = literal > 0 ? 1 : -1;
+        trail[trailSize++] = literal;
+        maxPropagationDepth = Math.max(maxPropagationDepth, trailSize);
+        if (isRunningInUI) assignLiteral(literal);
+    }
+
+    private void undoTo(int size) {
+        while (trailSize > size) {
+            int literal = trail[--trailSize];
+            assign[Math.abs(literal)] = 0;
+            if (isRunningInUI) unassignLiteral(literal);
+        }
+        propagateHead = trailSize;
+    }
+
+    private int valueOf(int literal) {
+        int value = assign[Math.abs(literal)];
+        return literal > 0 ? value : -value;
+    }
+
+    private int watchIndex(int literal) {
+        return literal > 0 ? 2 * literal : -2 * literal + 1;
+    }
+
+    private void addWatch(int literal, int clauseIndex) {
+        int index = watchIndex(literal);
+        int[] list = watches[index];
+        if (list == null) {
+            list = new int[4];
+            watches[index] = list;
+        } else if (watchCount[index] == list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+            watches[index] = list;
+        }
+        list[watchCount[index]++] = clauseIndex;
+    }
+
     public boolean runDPLL(int[][] clauses, int currentDepth) {
+        budget.tick();
         if (currentDepth > maxRecursionDepth) return false;
         maxPropagationDepth = Math.max(maxPropagationDepth, currentDepth);
 
@@ -131,7 +460,7 @@ public class DPLLSATSolver {
     public int[][] decodeAssignmentsToBoard() {
         int[][] resultBoard = new int[N][N];
         for (Map.Entry<Integer, Boolean> entry : variableAssignments.entrySet()) {
-            if (!entry.getValue()) continue;
+            if (!entry.getValue() || entry.getKey() > N * N * N) continue;
 
             int var = entry.getKey() - 1;
             int digit = var % N + 1;
@@ -171,4 +500,40 @@ public class DPLLSATSolver {
     public List<int[][]> getSteps() {
         return steps;  
     }
+
+    public void setBudget(SolveBudget budget) {
+        this.budget = budget;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public String getName() {
+        return "DPLLSAT";
+    }
+
+    public int getSize() {
+        return N;
+    }
+
+    public void reset() {
+        maxPropagationDepth = 0;
+        totalGuessCount = 0;
+        budget = defaultBudget;
+        variableAssignments.clear();
+        steps.clear();
+        stepCount = 0;
+    }
+
+    private boolean isValidBoard(int[][] board) {
+        if (board == null || board.length != N) return false;
+        for (int[] row : board) {
+            if (row == null || row.length != N) return false;
+            for (int value : row) {
+                if (value < 0 || value > N) return false;
+            }
+        }
+        return true;
+    }
 }
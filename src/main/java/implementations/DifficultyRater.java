@@ -0,0 +1,421 @@
+package implementations;
+
+import java.util.Arrays;
+
+/*
+ * ============================================
+ *       DifficultyRater Class
+ * ============================================
+ * Used For: Rating Sudoku difficulty by solving with a fixed ladder of logical techniques,
+ * always applying the easiest technique that makes progress, and reporting the hardest
+ * technique needed, the number of steps, and the DLX branching needed once logic stalls.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class DifficultyRater {
+
+    public enum Technique {
+        NONE(0.0),
+        HIDDEN_SINGLE(1.5),
+        NAKED_SINGLE(2.3),
+        LOCKED_CANDIDATES(2.6),
+        NAKED_PAIR(3.0),
+        X_WING(3.2),
+        HIDDEN_PAIR(3.4),
+        NAKED_TRIPLE(3.6),
+        GUESSING(5.0);
+
+        public final double weight;
+
+        Technique(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static class Rating {
+        public final Technique hardest;
+        public final int steps;
+        public final long branches;
+        public final boolean solvable;
+        // The DLX count ran out of budget: branches is a lower bound and solvable is unknown (false).
+        public final boolean exhausted;
+        public final double score;
+
+        Rating(Technique hardest, int steps, long branches, boolean solvable) {
+            this(hardest, steps, branches, solvable, false);
+        }
+
+        Rating(Technique hardest, int steps, long branches, boolean solvable, boolean exhausted) {
+            this.hardest = hardest;
+            this.steps = steps;
+            this.branches = branches;
+            this.solvable = solvable;
+            this.exhausted = exhausted;
+            this.score = hardest == Technique.GUESSING
+                    ? hardest.weight + Math.log(1 + branches) / Math.log(2)
+                    : hardest.weight;
+        }
+    }
+
+    private final int N;
+    private final int boxSize;
+    private final int[][] units;
+    private final int[][] peers;
+    private final int[] rowOf;
+    private final int[] colOf;
+    private final int[] boxOf;
+
+    private long[] cand;
+    private int[] value;
+    private int steps;
+    private Technique hardest;
+    private boolean contradiction;
+    private SolveBudget budget = SolveBudget.unlimited();
+
+    public DifficultyRater(int N) {
+        int s = (int) Math.sqrt(N);
+        if (s * s != N) {
+            throw new IllegalArgumentException("N must be a perfect square (e.g., 4, 9, 16).");
+        }
+        this.N = N;
+        this.boxSize = s;
+        this.units = new int[3 * N][N];
+        this.rowOf = new int[N * N];
+        this.colOf = new int[N * N];
+        this.boxOf = new int[N * N];
+
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int cell = r * N + c;
+                int box = (r / boxSize) * boxSize + (c / boxSize);
+                int inBox = (r % boxSize) * boxSize + (c % boxSize);
+                rowOf[cell] = r;
+                colOf[cell] = c;
+                boxOf[cell] = box;
+                units[r][c] = cell;
+                units[N + c][r] = cell;
+                units[2 * N + box][inBox] = cell;
+            }
+        }
+
+        this.peers = new int[N * N][];
+        for (int cell = 0; cell < N * N; cell++) {
+            boolean[] isPeer = new boolean[N * N];
+            int count = 0;
+            for (int u : new int[]{rowOf[cell], N + colOf[cell], 2 * N + boxOf[cell]}) {
+                for (int other : units[u]) {
+                    if (other != cell && !isPeer[other]) {
+                        isPeer[other] = true;
+                        count++;
+                    }
+                }
+            }
+            peers[cell] = new int[count];
+            int idx = 0;
+            for (int other = 0; other < N * N; other++) {
+                if (isPeer[other]) peers[cell][idx++] = other;
+            }
+        }
+    }
+
+    // Bounds the DLX count that measures branching once the techniques stall.
+    public void setBudget(SolveBudget budget) {
+        this.budget = budget;
+    }
+
+    public Rating rate(int[][] board) {
+        if (board == null || board.length != N) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+
+        cand = new long[N * N];
+        value = new int[N * N];
+        steps = 0;
+        hardest = Technique.NONE;
+        contradiction = false;
+
+        long all = N == 64 ? -1L : (1L << N) - 1;
+        Arrays.fill(cand, all);
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int d = board[r][c];
+                if (d < 0 || d > N) {
+                    throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+                }
+                if (d == 0) continue;
+                int cell = r * N + c;
+                if ((cand[cell] & bit(d)) == 0) return new Rating(Technique.NONE, 0, 0, false);
+                place(cell, d);
+            }
+        }
+
+        while (!contradiction && !isSolved()) {
+            boolean hidden = hiddenSingles();
+            if (contradiction) break;
+            if (hidden) use(Technique.HIDDEN_SINGLE);
+            else if (nakedSingles()) use(Technique.NAKED_SINGLE);
+            else if (lockedCandidates()) use(Technique.LOCKED_CANDIDATES);
+            else if (nakedSubset(2)) use(Technique.NAKED_PAIR);
+            else if (xWing()) use(Technique.X_WING);
+            else if (hiddenPair()) use(Technique.HIDDEN_PAIR);
+            else if (nakedSubset(3)) use(Technique.NAKED_TRIPLE);
+            else break;
+            checkContradiction();
+        }
+
+        if (contradiction) return new Rating(hardest, steps, 0, false);
+        if (isSolved()) return new Rating(hardest, steps, 0, true);
+
+        int[][] stalled = new int[N][N];
+        for (int cell = 0; cell < N * N; cell++) stalled[rowOf[cell]][colOf[cell]] = value[cell];
+        DLXSolver dlx = new DLXSolver(N, false);
+        dlx.setBudget(budget);
+        try {
+            boolean solvable = dlx.countSolutions(stalled, 1) > 0;
+            return new Rating(Technique.GUESSING, steps, dlx.getNumberOfGuesses(), solvable);
+        } catch (SolveBudget.ExhaustedException e) {
+            return new Rating(Technique.GUESSING, steps, dlx.getNumberOfGuesses(), false, true);
+        }
+    }
+
+    private void use(Technique technique) {
+        if (technique.ordinal() > hardest.ordinal()) hardest = technique;
+    }
+
+    private long bit(int d) {
+        return 1L << (d - 1);
+    }
+
+    private void place(int cell, int d) {
+        value[cell] = d;
+        cand[cell] = 0;
+        long mask = ~bit(d);
+        for (int p : peers[cell]) cand[p] &= mask;
+    }
+
+    private boolean isSolved() {
+        for (int v : value) if (v == 0) return false;
+        return true;
+    }
+
+    private void checkContradiction() {
+        for (int cell = 0; cell < N * N; cell++) {
+            if (value[cell] == 0 && cand[cell] == 0) {
+                contradiction = true;
+                return;
+            }
+        }
+    }
+
+    private boolean eliminate(int cell, long mask) {
+        if (value[cell] != 0 || (cand[cell] & mask) == 0) return false;
+        cand[cell] &= ~mask;
+        return true;
+    }
+
+    private boolean nakedSingles() {
+        boolean progress = false;
+        for (int cell = 0; cell < N * N; cell++) {
+            if (value[cell] == 0 && Long.bitCount(cand[cell]) == 1) {
+                place(cell, Long.numberOfTrailingZeros(cand[cell]) + 1);
+                steps++;
+                progress = true;
+            }
+        }
+        return progress;
+    }
+
+    private boolean hiddenSingles() {
+        boolean progress = false;
+        for (int[] unit : units) {
+            for (int d = 1; d <= N; d++) {
+                long b = bit(d);
+                int found = -1;
+                int count = 0;
+                for (int cell : unit) {
+                    if (value[cell] == d) {
+                        count = -1;
+                        break;
+                    }
+                    if ((cand[cell] & b) != 0) {
+                        found = cell;
+                        count++;
+                    }
+                }
+                if (count == 0) {
+                    contradiction = true;
+                    return false;
+                }
+                if (count == 1 && Long.bitCount(cand[found]) > 1) {
+                    place(found, d);
+                    steps++;
+                    progress = true;
+                }
+            }
+        }
+        return progress;
+    }
+
+    private boolean lockedCandidates() {
+        for (int box = 0; box < N; box++) {
+            for (int d = 1; d <= N; d++) {
+                long b = bit(d);
+                int row = -1, col = -1;
+                boolean sameRow = true, sameCol = true, any = false;
+                for (int cell : units[2 * N + box]) {
+                    if ((cand[cell] & b) == 0) continue;
+                    if (!any) {
+                        row = rowOf[cell];
+                        col = colOf[cell];
+                        any = true;
+                    } else {
+                        sameRow &= rowOf[cell] == row;
+                        sameCol &= colOf[cell] == col;
+                    }
+                }
+                if (!any) continue;
+
+                boolean progress = false;
+                if (sameRow) {
+                    for (int cell : units[row]) if (boxOf[cell] != box) progress |= eliminate(cell, b);
+                }
+                if (sameCol) {
+                    for (int cell : units[N + col]) if (boxOf[cell] != box) progress |= eliminate(cell, b);
+                }
+                if (progress) {
+                    steps++;
+                    return true;
+                }
+            }
+        }
+
+        for (int line = 0; line < 2 * N; line++) {
+            for (int d = 1; d <= N; d++) {
+                long b = bit(d);
+                int box = -1;
+                boolean sameBox = true, any = false;
+                for (int cell : units[line]) {
+                    if ((cand[cell] & b) == 0) continue;
+                    if (!any) {
+                        box = boxOf[cell];
+                        any = true;
+                    } else {
+                        sameBox &= boxOf[cell] == box;
+                    }
+                }
+                if (!any || !sameBox) continue;
+
+                boolean progress = false;
+                for (int cell : units[2 * N + box]) {
+                    boolean onLine = line < N ? rowOf[cell] == line : colOf[cell] == line - N;
+                    if (!onLine) progress |= eliminate(cell, b);
+                }
+                if (progress) {
+                    steps++;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean nakedSubset(int size) {
+        int[] chosen = new int[size];
+        for (int[] unit : units) {
+            if (findNakedSubset(unit, size, 0, 0, 0L, chosen)) {
+                steps++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean findNakedSubset(int[] unit, int size, int start, int depth, long union, int[] chosen) {
+        if (depth == size) {
+            if (Long.bitCount(union) != size) return false;
+            boolean progress = false;
+            for (int cell : unit) {
+                boolean inSubset = false;
+                for (int c : chosen) inSubset |= c == cell;
+                if (!inSubset) progress |= eliminate(cell, union);
+            }
+            return progress;
+        }
+        for (int i = start; i < unit.length; i++) {
+            int cell = unit[i];
+            int count = Long.bitCount(cand[cell]);
+            if (value[cell] != 0 || count < 2 || count > size) continue;
+            long next = union | cand[cell];
+            if (Long.bitCount(next) > size) continue;
+            chosen[depth] = cell;
+            if (findNakedSubset(unit, size, i + 1, depth + 1, next, chosen)) return true;
+        }
+        return false;
+    }
+
+    private boolean hiddenPair() {
+        for (int[] unit : units) {
+            long[] positions = new long[N + 1];
+            for (int d = 1; d <= N; d++) {
+                long b = bit(d);
+                for (int i = 0; i < N; i++) {
+                    if ((cand[unit[i]] & b) != 0) positions[d] |= 1L << i;
+                }
+            }
+            for (int d1 = 1; d1 <= N; d1++) {
+                if (Long.bitCount(positions[d1]) != 2) continue;
+                for (int d2 = d1 + 1; d2 <= N; d2++) {
+                    if (positions[d2] != positions[d1]) continue;
+                    long keep = bit(d1) | bit(d2);
+                    boolean progress = false;
+                    for (int i = 0; i < N; i++) {
+                        if ((positions[d1] & (1L << i)) != 0) progress |= eliminate(unit[i], ~keep);
+                    }
+                    if (progress) {
+                        steps++;
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean xWing() {
+        for (int orientation = 0; orientation < 2; orientation++) {
+            int base = orientation == 0 ? 0 : N;
+            int cross = orientation == 0 ? N : 0;
+            for (int d = 1; d <= N; d++) {
+                long b = bit(d);
+                long[] positions = new long[N];
+                for (int line = 0; line < N; line++) {
+                    int[] unit = units[base + line];
+                    for (int i = 0; i < N; i++) {
+                        if ((cand[unit[i]] & b) != 0) positions[line] |= 1L << i;
+                    }
+                }
+                for (int l1 = 0; l1 < N; l1++) {
+                    if (Long.bitCount(positions[l1]) != 2) continue;
+                    for (int l2 = l1 + 1; l2 < N; l2++) {
+                        if (positions[l2] != positions[l1]) continue;
+                        boolean progress = false;
+                        long pos = positions[l1];
+                        while (pos != 0) {
+                            int i = Long.numberOfTrailingZeros(pos);
+                            pos &= pos - 1;
+                            for (int line = 0; line < N; line++) {
+                                if (line != l1 && line != l2) progress |= eliminate(units[cross + i][line], b);
+                            }
+                        }
+                        if (progress) {
+                            steps++;
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
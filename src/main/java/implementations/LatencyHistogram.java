@@ -0,0 +1,122 @@
+package implementations;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ============================================
+ *       LatencyHistogram Class
+ * ============================================
+ * Used For: Recording solve latencies from any number of threads without locks. Buckets follow
+ * the HdrHistogram layout: values below 128 ns get one bucket each, and every power of two above
+ * that is split into 128 linear sub-buckets, so any recorded value is reported within 1% across
+ * the whole range (1 ns up to about 73 minutes; anything longer lands in the last bucket).
+ * record() is one atomic increment, two adders and a min/max check; percentiles walk the buckets.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 42;
+    private static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    public static class Snapshot {
+        public final long count;
+        public final long minNanos;
+        public final long maxNanos;
+        public final double meanNanos;
+        public final long p50Nanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+        public final long p999Nanos;
+
+        Snapshot(long count, long minNanos, long maxNanos, double meanNanos, long p50Nanos, long p90Nanos,
+                 long p99Nanos, long p999Nanos) {
+            this.count = count;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+            this.meanNanos = meanNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.p999Nanos = p999Nanos;
+        }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        if (value < min.get()) min.accumulateAndGet(value, Math::min);
+        if (value > max.get()) max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    // Upper edge of the bucket holding the p-th percentile, capped at the largest value seen.
+    public long percentile(double p) {
+        long[] copy = copyCounts();
+        return percentile(copy, sum(copy), p);
+    }
+
+    // Buckets are read one by one while writers keep going, so a snapshot may miss records that
+    // land during the copy; every value it does include is counted exactly once.
+    public Snapshot snapshot() {
+        long[] copy = copyCounts();
+        long total = sum(copy);
+        if (total == 0) return new Snapshot(0, 0, 0, 0, 0, 0, 0, 0);
+        return new Snapshot(total, min.get(), max.get(), totalNanos.sum() / (double) Math.max(1, totalCount.sum()),
+                percentile(copy, total, 50), percentile(copy, total, 90), percentile(copy, total, 99),
+                percentile(copy, total, 99.9));
+    }
+
+    private long[] copyCounts() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) copy[i] = counts.get(i);
+        return copy;
+    }
+
+    private static long sum(long[] copy) {
+        long total = 0;
+        for (long count : copy) total += count;
+        return total;
+    }
+
+    private long percentile(long[] copy, long total, double p) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += copy[i];
+            if (seen >= rank) return Math.min(bucketUpperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int index = (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.file.Paths;
 import java.util.*;
 
 /*
@@ -21,6 +22,9 @@ public class Main {
 
     private static volatile long peakMemoryUsage = 0;
     private static volatile boolean monitoring = false;
+    private static final SolutionCache solutionCache = new SolutionCache(4096);
+    private static final SolverPool solverPool = new SolverPool();
+    private static final long RATING_TIMEOUT_MILLIS = 10_000;
 
     public static long getUsedMemory() {
         
@@ -55,33 +59,51 @@ public class Main {
         int hintCount;
         double hintVariance;
         double difficultyScore;
+        DifficultyRater.Rating rating;
 
         PuzzleInfo(int[][] puzzle) {
             this.puzzle = puzzle;
             this.hintCount = countHints(puzzle);
             this.hintVariance = computeHintSpread(puzzle);
-            this.difficultyScore = computeDifficultyScore(puzzle);
+            DifficultyRater rater = new DifficultyRater(puzzle.length);
+            rater.setBudget(SolveBudget.ofMillis(RATING_TIMEOUT_MILLIS));
+            this.rating = rater.rate(puzzle);
+            this.difficultyScore = rating.score;
         }
     }
 
     public static class SolveResult {
         boolean solved;
-        long[] times;
+        BenchmarkRunner.Stats stats;
         int numberOfGuesses;
         int propagationDepth;
         int[][] solvedBoard;
         long peakMemory;
+        String status;
+        long nodes;
 
-        SolveResult(boolean solved, long[] times, int numberOfGuesses, int propagationDepth, int[][] solvedBoard, long peakMemory) {
+        SolveResult(boolean solved, BenchmarkRunner.Stats stats, int numberOfGuesses, int propagationDepth, int[][] solvedBoard,
+                    long peakMemory, String status, long nodes) {
             this.solved = solved;
-            this.times = times;
+            this.stats = stats;
             this.numberOfGuesses = numberOfGuesses;
             this.propagationDepth = propagationDepth;
             this.solvedBoard = solvedBoard;
             this.peakMemory = peakMemory;
+            this.status = status;
+            this.nodes = nodes;
         }
     }
 
+    // Per-run observations that the benchmark task writes and solveAndBenchmark reads afterwards.
+    private static class RunRecord {
+        String status = "Failed";
+        int numberOfGuesses;
+        int propagationDepth;
+        long nodes;
+        int[][] firstSolvedBoard;
+    }
+
     public static int countHints(int[][] board) {
         int count = 0;
         for (int[] row : board)
@@ -117,14 +139,6 @@ public class Main {
         return Math.sqrt(variance / data.length);
     }
 
-    public static double computeDifficultyScore(int[][] board) {
-        int total = board.length * board.length;
-        double density = countHints(board) / (double) total;
-        double spread = computeHintSpread(board);
-        double penalty = Math.min(spread / (board.length / 2.0), 1.0);
-        return (1 - density) * 30 + Math.pow(penalty, 1.2) * 50;
-    }
-
     public static int[][] deepCopy(int[][] original) {
         if (original == null) return null;
         int[][] copy = new int[original.length][];
@@ -149,76 +163,133 @@ public class Main {
         return true;
     }
 
-    public static SolveResult solveAndBenchmark(String puzzleName, PuzzleInfo info, String solverName, long timeout) {
-        long[] times = new long[5];
-        boolean solved = false;
-        int numberOfGuesses = 0;
-        int propagationDepth = 0;
-        int[][] firstSolvedBoard = null;
-        long recordedPeakMemory = 0;
+    // A full check before a board goes into the solution cache: every unit holds each digit once
+    // and every clue of the puzzle is kept.
+    public static boolean isCompleteSolution(int[][] puzzle, int[][] board) {
+        if (board == null || board.length != puzzle.length) return false;
+        int N = puzzle.length;
+        int boxSize = (int) Math.sqrt(N);
+        for (int i = 0; i < N; i++) {
+            boolean[] row = new boolean[N + 1];
+            boolean[] col = new boolean[N + 1];
+            boolean[] box = new boolean[N + 1];
+            for (int j = 0; j < N; j++) {
+                int r = (i / boxSize) * boxSize + j / boxSize;
+                int c = (i % boxSize) * boxSize + j % boxSize;
+                if (puzzle[i][j] != 0 && puzzle[i][j] != board[i][j]) return false;
+                if (!mark(row, board[i][j]) || !mark(col, board[j][i]) || !mark(box, board[r][c])) return false;
+            }
+        }
+        return true;
+    }
 
-        for (int attempt = 0; attempt < 5; attempt++) {
-            int[][] copy = deepCopy(info.puzzle);
-            long start = System.currentTimeMillis();
+    private static boolean mark(boolean[] seen, int value) {
+        if (value < 1 || value >= seen.length || seen[value]) return false;
+        seen[value] = true;
+        return true;
+    }
 
-            try {
-                System.gc();
-                startMemoryMonitor();
-
-                int[][] resultBoard = null;
-
-                switch (solverName) {
-                    case "Backtracking":
-                        BackTrackingSolver back = new BackTrackingSolver(copy.length,false);
-                        back.setTimeoutMillis(timeout);
-                        resultBoard = back.solve(copy);
-                        numberOfGuesses = back.getNumberOfGuesses();
-                        propagationDepth = back.getPropagationDepth();
-                        break;
-                    case "ConstraintPropagation":
-                        ConstraintPropagationSolver cp = new ConstraintPropagationSolver(copy.length,false);
-                        resultBoard = cp.solve(copy);
-                        numberOfGuesses = cp.getNumberOfGuesses();
-                        propagationDepth = cp.getPropagationDepth();
-                        break;
-                    case "DPLLSAT":
-                        DPLLSATSolver dpll = new DPLLSATSolver(copy.length,false);
-                        resultBoard = dpll.solve(copy);
-                        numberOfGuesses = dpll.getNumberOfGuesses();
-                        propagationDepth = dpll.getPropagationDepth();
-                        break;
-                    case "DLX":
-                        DLXSolver dlx = new DLXSolver(copy.length,false);
-                        resultBoard = dlx.solve(copy);
-                        numberOfGuesses = dlx.getNumberOfGuesses();
-                        propagationDepth = dlx.getPropagationDepth();
-                        break;
-                }
+    public static SolveResult solveAndBenchmark(String puzzleName, PuzzleInfo info, String solverName, long timeout) {
+        return solveAndBenchmark(puzzleName, info, solverName, timeout, info.puzzle);
+    }
 
-                stopMemoryMonitor();
-                recordedPeakMemory = Math.max(recordedPeakMemory, peakMemoryUsage);
-                if (isValidSolution(resultBoard)) {
-                    solved = true;
-                    if (attempt == 0) firstSolvedBoard = deepCopy(resultBoard);
-                } else {
-                    System.out.println("Solver failed to return a valid solution.");
-                    break;
-                }
+    public static SolveResult solveAndBenchmark(String puzzleName, PuzzleInfo info, String solverName, long timeout,
+                                                int[][] startBoard) {
+        int[][] solution = new int[startBoard.length][startBoard.length];
+        RunRecord record = new RunRecord();
 
+        BenchmarkRunner.Task task = () -> {
+            SolveBudget budget = SolveBudget.ofMillis(timeout);
+            ReusableSolver solver = solverPool.acquire(solverName, startBoard.length);
+            int[][] resultBoard;
+            try {
+                solver.setBudget(budget);
+                resultBoard = solver.solveInto(startBoard, solution) ? solution : null;
+            } catch (SolveBudget.ExhaustedException e) {
+                record.status = "BudgetExhausted(" + e.getReason() + ")";
+                record.nodes = e.getNodes();
+                System.out.println("Solver stopped: " + e.getMessage() + " after " + e.getNodes() + " nodes");
+                throw e;
+            } catch (StackOverflowError | OutOfMemoryError e) {
+                record.status = "ResourceExhausted(" + e.getClass().getSimpleName() + ")";
+                System.out.println("Solver ran out of resources: " + e.getClass().getSimpleName());
+                return false;
             } catch (RuntimeException e) {
-                stopMemoryMonitor();
+                record.status = "Failed";
                 System.out.println("Solver failed: " + e.getMessage());
-                break;
-            } catch (Exception e) {
-                stopMemoryMonitor();
-                System.out.println("Unexpected error: " + e.getMessage());
-                break;
+                return false;
+            } finally {
+                record.numberOfGuesses = solver.getNumberOfGuesses();
+                record.propagationDepth = solver.getPropagationDepth();
+                solverPool.release(solver);
+            }
+
+            record.nodes = budget.getNodes();
+            if (!isValidSolution(resultBoard)) {
+                record.status = "Failed";
+                System.out.println("Solver failed to return a valid solution.");
+                return false;
             }
+            if (record.firstSolvedBoard == null) record.firstSolvedBoard = deepCopy(resultBoard);
+            return true;
+        };
+
+        // Every run, warmup included, also goes into the live metrics so JMX sees the whole batch.
+        BenchmarkRunner.Task recorded = () -> {
+            long start = System.nanoTime();
+            SolverMetrics.Outcome outcome = SolverMetrics.Outcome.FAILED;
+            try {
+                boolean ok = task.run();
+                if (ok) outcome = SolverMetrics.Outcome.SOLVED;
+                return ok;
+            } catch (SolveBudget.ExhaustedException e) {
+                outcome = SolverMetrics.Outcome.TIMEOUT;
+                throw e;
+            } finally {
+                SolverMetrics.global().record(solverName, startBoard.length, System.nanoTime() - start, outcome);
+            }
+        };
+
+        System.gc();
+        startMemoryMonitor();
+        BenchmarkRunner.Stats stats = benchmarkRunnerFor(startBoard.length).run(recorded);
+        stopMemoryMonitor();
+
+        // A pair counts as solved when at least one measured run succeeded; failed runs in between
+        // are reported in FailedRuns instead of cutting the measurement short.
+        boolean solved = stats.hasSamples();
+        String status = solved ? (stats.failedRuns > 0 ? "SolvedWithFailures" : "Solved") : record.status;
+        return new SolveResult(solved, stats, record.numberOfGuesses, record.propagationDepth, record.firstSolvedBoard,
+                peakMemoryUsage, status, record.nodes);
+    }
 
-            times[attempt] = System.currentTimeMillis() - start;
+    // Large boards take seconds per run, so they get a short fixed warmup; everything else warms up
+    // until the run times settle.
+    private static BenchmarkRunner benchmarkRunnerFor(int N) {
+        BenchmarkRunner runner;
+        if (N > 25) {
+            runner = new BenchmarkRunner(1, 3);
+            runner.setWarmupRuns(1, 1);
+        } else {
+            runner = new BenchmarkRunner(2, 10);
+            runner.setMaxWarmupMillis(10_000);
         }
+        runner.setMaxMeasureMillis(30_000);
+        return runner;
+    }
+
+    // The RunN/Best/Worst/Average columns keep their millisecond units but now carry the
+    // nanosecond measurements with three decimals; runs that were not measured stay empty.
+    private static String millis(long[] samples, int run) {
+        return run < samples.length ? formatMillis(samples[run]) : "";
+    }
 
-        return new SolveResult(solved, times, numberOfGuesses, propagationDepth, firstSolvedBoard, recordedPeakMemory);
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    private static String formatMicros(double nanos) {
+        return String.format("%.1f", nanos / 1e3);
     }
 
     public static void printBoard(int[][] board) {
@@ -240,12 +311,30 @@ public class Main {
     }
 
     public static void main(String[] args) {
-        int[][][] puzzles = PuzzleBank.getPuzzles();
+        int[][][] standardPuzzles = PuzzleBank.getPuzzles();
+        int[][][] largePuzzles = PuzzleBank.getLargePuzzles();
+        int[][][] puzzles = Arrays.copyOf(standardPuzzles, standardPuzzles.length + largePuzzles.length);
+        System.arraycopy(largePuzzles, 0, puzzles, standardPuzzles.length, largePuzzles.length);
         if (puzzles.length == 0) {
             System.out.println("No puzzles found.");
             return;
         }
 
+        // Earlier runs hold timings for these very puzzles; training on them would let the router
+        // look up the answers it is graded on, so only rows for other puzzles seed it.
+        Set<String> benchmarkedPuzzles = new HashSet<>();
+        for (int[][] puzzle : puzzles) benchmarkedPuzzles.add(boardToString(puzzle));
+        SolverRouter router;
+        try {
+            router = SolverRouter.fromResults(Paths.get("results"), benchmarkedPuzzles);
+        } catch (IOException e) {
+            System.out.println("Error reading past results, routing starts untrained: " + e.getMessage());
+            router = new SolverRouter();
+        }
+
+        AutoCloseable metricsSnapshots = SolverMetrics.global().startSnapshots(
+                Paths.get("results/solver_metrics_snapshot.csv"), 5_000);
+
         List<String[]> records = new ArrayList<>();
         records.add(new String[]{
             "PuzzleName", "Solver", "Solved", "HintCount", "HintVariance", "DifficultyScore",
@@ -253,32 +342,71 @@ public class Main {
             "BestTime(ms)", "WorstTime(ms)", "AverageTime(ms)",
             "NumberOfGuesses", "PropagationDepth", "PeakMemory(bytes)",
             "OriginalPuzzle", "Solution",
-            "InitStartTime(ms)", "InitEndTime(ms)", "InitTime(μs)", "InitMemCost(bytes)"
+            "InitStartTime(ms)", "InitEndTime(ms)", "InitTime(μs)", "InitMemCost(bytes)",
+            "CacheTime(μs)", "CacheHitRatio",
+            "HardestTechnique", "TechniqueSteps", "Branches",
+            "Status", "Nodes",
+            "PresolveTime(μs)", "PresolveCells",
+            "WarmupRuns", "SteadyState", "MeasuredRuns", "FailedRuns", "OutliersRemoved",
+            "Mean(μs)", "StdDev(μs)", "P50(μs)", "P90(μs)", "P99(μs)", "CI95Low(μs)", "CI95High(μs)",
+            "Size", "RoutedSolver", "FastestSolver", "RoutingAccuracy"
         });
+        // The original puzzle and solution of each record, kept as boards for the columnar file.
+        List<int[][][]> recordBoards = new ArrayList<>();
 
         int index = 1;
         for (int[][] puzzle : puzzles) {
             String puzzleName = "Puzzle_" + index++;
 
+            // The cache is only consulted here; on a miss the first verified solver solution fills it.
+            long cacheStart = System.nanoTime();
+            SolutionCache.Lookup cached = solutionCache.lookup(puzzle);
+            long cacheTime = (System.nanoTime() - cacheStart) / 1_000;
+            double cacheHitRatio = solutionCache.getHitRatio();
+            if (cached.isHit()) {
+                System.out.println(puzzleName + ": an equivalent puzzle is already in the solution cache.");
+            }
+            boolean cacheFilled = cached.isHit();
+
+            Presolver.Result presolved = new Presolver(puzzle.length).presolve(puzzle);
+            if (presolved.contradiction) {
+                System.out.println(puzzleName + ": presolve found a contradiction, solvers are skipped.");
+            }
+
+            // Hint statistics and the difficulty rating depend only on the puzzle, so they are worked
+            // out once here rather than per solver inside the timed initialisation.
+            PuzzleInfo info = new PuzzleInfo(puzzle);
+
+            // Route before any solver runs so the accuracy only reflects other puzzles' timings.
+            SolverRouter.Features features = new SolverRouter.Features(puzzle.length, countHints(puzzle),
+                    computeHintSpread(puzzle), presolved.filledCells);
+            String routedSolver = router.route(features);
+            int firstRecord = records.size();
+            String fastestSolver = null;
+            double fastestNanos = Double.MAX_VALUE;
+
             for (String solver : List.of("Backtracking", "ConstraintPropagation", "DPLLSAT", "DLX")) {
                 System.out.println("Solving " + puzzleName + " with " + solver + "...");
 
+                // Initialisation is getting this solver ready for the board size: built on first use,
+                // borrowed back from the pool afterwards.
                 long initStartTime = System.nanoTime();
                 long memBeforeInit = getUsedMemory();
 
-                PuzzleInfo info = new PuzzleInfo(puzzle);
+                solverPool.release(solverPool.acquire(solver, puzzle.length));
 
                 long initEndTime = System.nanoTime();
                 long memAfterInit = getUsedMemory();
                 long initializationTime = (initEndTime - initStartTime) / 1_000;
                 long initializationMemoryCost = Math.max(memAfterInit - memBeforeInit, 1);
 
-                long timeout = solver.equals("Backtracking") ? 180_000 : 120_000;
-                SolveResult result = solveAndBenchmark(puzzleName, info, solver, timeout);
-
-                long best = Arrays.stream(result.times).min().orElse(0);
-                long worst = Arrays.stream(result.times).max().orElse(0);
-                long avg = (long) Arrays.stream(result.times).average().orElse(0);
+                long timeout = puzzle.length > 25 ? 30_000
+                        : solver.equals("Backtracking") ? 180_000 : 120_000;
+                SolveResult result = presolved.contradiction
+                        ? new SolveResult(false, null, 0, 0, null, 0, "PresolveContradiction", 0)
+                        : solveAndBenchmark(puzzleName, info, solver, timeout, presolved.board);
+                BenchmarkRunner.Stats stats = result.stats;
+                long[] samples = stats != null ? stats.samplesNanos : new long[0];
 
                 records.add(new String[] {
                     puzzleName, solver,
@@ -286,31 +414,81 @@ public class Main {
                     String.valueOf(info.hintCount),
                     String.format("%.2f", info.hintVariance),
                     String.format("%.2f", info.difficultyScore),
-                    String.valueOf(result.times[0]),
-                    String.valueOf(result.times[1]),
-                    String.valueOf(result.times[2]),
-                    String.valueOf(result.times[3]),
-                    String.valueOf(result.times[4]),
-                    String.valueOf(best),
-                    String.valueOf(worst),
-                    String.valueOf(avg),
-                    result.solved ? String.valueOf(result.numberOfGuesses) : "N/A",
-                    result.solved ? String.valueOf(result.propagationDepth) : "N/A",
+                    millis(samples, 0),
+                    millis(samples, 1),
+                    millis(samples, 2),
+                    millis(samples, 3),
+                    millis(samples, 4),
+                    formatMillis(stats != null ? stats.minNanos : 0),
+                    formatMillis(stats != null ? stats.maxNanos : 0),
+                    formatMillis(stats != null ? (long) stats.meanNanos : 0),
+                    !result.status.equals("Failed") ? String.valueOf(result.numberOfGuesses) : "N/A",
+                    !result.status.equals("Failed") ? String.valueOf(result.propagationDepth) : "N/A",
                     String.valueOf(result.peakMemory),
                     boardToString(info.puzzle),
                     result.solved && result.solvedBoard != null ? boardToString(result.solvedBoard) : "N/A",
                     String.valueOf(initStartTime),
                     String.valueOf(initEndTime),
                     String.valueOf(initializationTime),
-                    String.valueOf(initializationMemoryCost)
+                    String.valueOf(initializationMemoryCost),
+                    String.valueOf(cacheTime),
+                    String.format("%.4f", cacheHitRatio),
+                    info.rating.hardest.name(),
+                    String.valueOf(info.rating.steps),
+                    String.valueOf(info.rating.branches),
+                    result.status,
+                    String.valueOf(result.nodes),
+                    String.valueOf(presolved.getElapsedMicros()),
+                    String.valueOf(presolved.filledCells),
+                    String.valueOf(stats != null ? stats.warmupRuns : 0),
+                    stats != null && stats.steadyState ? "Yes" : "No",
+                    String.valueOf(stats != null ? stats.measuredRuns : 0),
+                    String.valueOf(stats != null ? stats.failedRuns : 0),
+                    String.valueOf(stats != null ? stats.outliersRemoved : 0),
+                    formatMicros(stats != null ? stats.meanNanos : 0),
+                    formatMicros(stats != null ? stats.stdDevNanos : 0),
+                    formatMicros(stats != null ? stats.p50Nanos : 0),
+                    formatMicros(stats != null ? stats.p90Nanos : 0),
+                    formatMicros(stats != null ? stats.p99Nanos : 0),
+                    formatMicros(stats != null ? stats.ciLowNanos : 0),
+                    formatMicros(stats != null ? stats.ciHighNanos : 0),
+                    String.valueOf(puzzle.length),
+                    routedSolver, "", ""
                 });
+                recordBoards.add(new int[][][]{info.puzzle, result.solved ? result.solvedBoard : null});
+
+                if (!presolved.contradiction) {
+                    router.observe(features, solver, result.solved ? stats.meanNanos / 1e6 : timeout, result.solved);
+                    if (result.solved && stats.meanNanos < fastestNanos) {
+                        fastestNanos = stats.meanNanos;
+                        fastestSolver = solver;
+                    }
+                }
 
                 if (result.solved) {
+                    if (!cacheFilled && isCompleteSolution(puzzle, result.solvedBoard)) {
+                        solutionCache.store(cached, result.solvedBoard);
+                        cacheFilled = true;
+                    }
                     printBoard(result.solvedBoard);
                 }
             }
+
+            if (fastestSolver != null) router.recordRouting(routedSolver, fastestSolver);
+            for (int r = firstRecord; r < records.size(); r++) {
+                String[] record = records.get(r);
+                record[record.length - 2] = fastestSolver != null ? fastestSolver : "N/A";
+                record[record.length - 1] = String.format("%.4f", router.getAccuracy());
+            }
         }
 
+        System.out.println("Solver routing: " + router.getRoutedCount() + " puzzles routed, accuracy "
+                + String.format("%.2f%%", router.getAccuracy() * 100));
+
+        System.out.println("Solution cache: " + solutionCache.getHits() + " hits, " + solutionCache.getMisses()
+                + " misses, hit ratio " + String.format("%.2f%%", solutionCache.getHitRatio() * 100)
+                + ", " + solutionCache.getEvictions() + " evictions");
+
         try (FileWriter writer = new FileWriter("results/puzzle_result_extra.csv", false)) {
             for (String[] record : records) {
                 writer.write(String.join(",", record));
@@ -320,5 +498,29 @@ public class Main {
         } catch (IOException e) {
             System.out.println("Error writing CSV: " + e.getMessage());
         }
+
+        try {
+            String[] header = records.get(0);
+            int puzzleCol = Arrays.asList(header).indexOf("OriginalPuzzle");
+            int solutionCol = Arrays.asList(header).indexOf("Solution");
+            List<Object[]> rows = new ArrayList<>();
+            for (int r = 1; r < records.size(); r++) {
+                Object[] row = records.get(r).clone();
+                row[puzzleCol] = recordBoards.get(r - 1)[0];
+                row[solutionCol] = recordBoards.get(r - 1)[1];
+                rows.add(row);
+            }
+            ColumnarResults.Writer.forRows(header, rows).write(Paths.get("results/puzzle_result_extra.col"));
+            System.out.println("Results saved to puzzle_result_extra.col");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Error writing columnar results: " + e.getMessage());
+        }
+
+        try {
+            metricsSnapshots.close();
+            System.out.println("Solver metrics saved to solver_metrics_snapshot.csv");
+        } catch (Exception e) {
+            System.out.println("Error writing metrics snapshot: " + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,189 @@
+package implementations;
+
+import java.util.Arrays;
+
+/*
+ * ============================================
+ *       Presolver Class
+ * ============================================
+ * Used For: Shrinking a puzzle before any solver sees it. Naked and hidden singles are filled in
+ * until nothing changes, and an empty candidate set or a digit with no place in a unit is
+ * reported as a contradiction straight away. Solvers then start from the presolved board.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class Presolver {
+
+    public static class Result {
+        public final int[][] board;
+        public final long[] candidates;
+        public final int filledCells;
+        public final boolean contradiction;
+        public final boolean solved;
+        public final long elapsedNanos;
+
+        Result(int[][] board, long[] candidates, int filledCells, boolean contradiction, boolean solved, long elapsedNanos) {
+            this.board = board;
+            this.candidates = candidates;
+            this.filledCells = filledCells;
+            this.contradiction = contradiction;
+            this.solved = solved;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getElapsedMicros() {
+            return elapsedNanos / 1_000;
+        }
+    }
+
+    private final int N;
+    private final int[][] units;
+    private final int[][] peers;
+
+    private long[] cand;
+    private int[] value;
+    private int open;
+
+    public Presolver(int N) {
+        int boxSize = (int) Math.sqrt(N);
+        if (boxSize * boxSize != N) {
+            throw new IllegalArgumentException("N must be a perfect square (e.g., 4, 9, 16).");
+        }
+        this.N = N;
+        this.units = new int[3 * N][N];
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int cell = r * N + c;
+                int box = (r / boxSize) * boxSize + (c / boxSize);
+                units[r][c] = cell;
+                units[N + c][r] = cell;
+                units[2 * N + box][(r % boxSize) * boxSize + (c % boxSize)] = cell;
+            }
+        }
+
+        this.peers = new int[N * N][];
+        for (int cell = 0; cell < N * N; cell++) {
+            int r = cell / N;
+            int c = cell % N;
+            int box = (r / boxSize) * boxSize + (c / boxSize);
+            boolean[] isPeer = new boolean[N * N];
+            int count = 0;
+            for (int u : new int[]{r, N + c, 2 * N + box}) {
+                for (int other : units[u]) {
+                    if (other != cell && !isPeer[other]) {
+                        isPeer[other] = true;
+                        count++;
+                    }
+                }
+            }
+            peers[cell] = new int[count];
+            int idx = 0;
+            for (int other = 0; other < N * N; other++) {
+                if (isPeer[other]) peers[cell][idx++] = other;
+            }
+        }
+    }
+
+    public Result presolve(int[][] board) {
+        if (board == null || board.length != N) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+        long start = System.nanoTime();
+        SolverEvents.PropagationEvent event = SolverEvents.beginPropagation("Presolve", board);
+
+        cand = new long[N * N];
+        value = new int[N * N];
+        open = N * N;
+        Arrays.fill(cand, N == 64 ? -1L : (1L << N) - 1);
+
+        int clues = 0;
+        boolean contradiction = false;
+        for (int r = 0; r < N && !contradiction; r++) {
+            if (board[r] == null || board[r].length != N) {
+                throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+            }
+            for (int c = 0; c < N; c++) {
+                int d = board[r][c];
+                if (d < 0 || d > N) {
+                    throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+                }
+                if (d == 0) continue;
+                clues++;
+                if ((cand[r * N + c] & (1L << (d - 1))) == 0) {
+                    contradiction = true;
+                    break;
+                }
+                place(r * N + c, d);
+            }
+        }
+
+        boolean progress = !contradiction;
+        while (progress) {
+            progress = false;
+            for (int cell = 0; cell < N * N && !contradiction; cell++) {
+                if (value[cell] != 0) continue;
+                if (cand[cell] == 0) {
+                    contradiction = true;
+                } else if (Long.bitCount(cand[cell]) == 1) {
+                    place(cell, Long.numberOfTrailingZeros(cand[cell]) + 1);
+                    progress = true;
+                }
+            }
+            if (contradiction) break;
+
+            int hidden = fillHiddenSingles();
+            if (hidden < 0) {
+                contradiction = true;
+                break;
+            }
+            progress |= hidden > 0;
+        }
+
+        int[][] result = new int[N][N];
+        for (int cell = 0; cell < N * N; cell++) result[cell / N][cell % N] = value[cell];
+        int filled = contradiction ? 0 : N * N - open - clues;
+        SolverEvents.endPropagation(event, N * N - open, contradiction);
+        return new Result(result, cand, filled, contradiction, !contradiction && open == 0, System.nanoTime() - start);
+    }
+
+    // Returns the number of cells placed, or -1 when some digit has no remaining place in a unit.
+    private int fillHiddenSingles() {
+        int placed = 0;
+        long all = N == 64 ? -1L : (1L << N) - 1;
+        for (int[] unit : units) {
+            long once = 0, twice = 0, fixed = 0;
+            for (int cell : unit) {
+                if (value[cell] != 0) {
+                    fixed |= 1L << (value[cell] - 1);
+                } else {
+                    twice |= once & cand[cell];
+                    once |= cand[cell];
+                }
+            }
+            if (((once | fixed) & all) != all) return -1;
+
+            long singles = once & ~twice & ~fixed;
+            while (singles != 0) {
+                long bit = singles & -singles;
+                singles &= singles - 1;
+                for (int cell : unit) {
+                    if (value[cell] == 0 && (cand[cell] & bit) != 0) {
+                        place(cell, Long.numberOfTrailingZeros(bit) + 1);
+                        placed++;
+                        break;
+                    }
+                }
+            }
+        }
+        return placed;
+    }
+
+    private void place(int cell, int d) {
+        value[cell] = d;
+        cand[cell] = 1L << (d - 1);
+        open--;
+        long mask = ~(1L << (d - 1));
+        for (int p : peers[cell]) cand[p] &= mask;
+    }
+}
@@ -0,0 +1,30 @@
+package implementations;
+
+/*
+ * ============================================
+ *       ReusableSolver Interface
+ * ============================================
+ * Used For: The reuse contract shared by all four solvers. One instance serves any number of
+ * boards of its size: reset() clears per-board stats and restores the default budget, and
+ * solveInto() reads the board without modifying it and writes the solution into a caller-owned
+ * array. Working structures are sized once per instance, so after the first solve the steady
+ * state allocates nothing. Instances are not thread-safe; share them through SolverPool.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public interface ReusableSolver {
+    String getName();
+
+    int getSize();
+
+    void reset();
+
+    boolean solveInto(int[][] board, int[][] solution);
+
+    void setBudget(SolveBudget budget);
+
+    int getNumberOfGuesses();
+
+    int getPropagationDepth();
+}
@@ -0,0 +1,154 @@
+package implementations;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+ * ============================================
+ *       SolutionCache Class
+ * ============================================
+ * Used For: Caching solved puzzles by their canonical form (see SudokuSymmetry) so that repeated
+ * and equivalent puzzles are answered from a bounded LRU cache instead of a full solver run.
+ * solve() wraps a synchronous solver; callers whose solves can be queued, time out or be rejected
+ * (SolverService, the CLI) use lookup() first and store() the solution once they have one.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolutionCache {
+    private final int capacity;
+    private final Map<String, int[][]> entries;
+    private final Map<Integer, SudokuSymmetry> symmetries = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // The result of lookup(): the solution on a hit, or null plus what store() needs on a miss.
+    public static class Lookup {
+        public final int[][] solution;
+        private final SudokuSymmetry.CanonicalForm canonical;
+
+        Lookup(int[][] solution, SudokuSymmetry.CanonicalForm canonical) {
+            this.solution = solution;
+            this.canonical = canonical;
+        }
+
+        public boolean isHit() {
+            return solution != null;
+        }
+    }
+
+    public SolutionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[][]> eldest) {
+                if (size() > SolutionCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public int[][] solve(int[][] board, Function<int[][], int[][]> solver) {
+        SudokuSymmetry.CanonicalForm canonical = symmetryFor(board.length).canonicalize(board);
+
+        int[][] canonicalSolution;
+        synchronized (entries) {
+            canonicalSolution = entries.get(canonical.key);
+        }
+
+        if (canonicalSolution != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            canonicalSolution = solver.apply(copyBoard(canonical.board));
+            if (canonicalSolution == null) return null;
+            canonicalSolution = copyBoard(canonicalSolution);
+            synchronized (entries) {
+                entries.put(canonical.key, canonicalSolution);
+            }
+        }
+        return canonical.transform.invert(canonicalSolution);
+    }
+
+    public Lookup lookup(int[][] board) {
+        SudokuSymmetry.CanonicalForm canonical = symmetryFor(board.length).canonicalize(board);
+        int[][] canonicalSolution;
+        synchronized (entries) {
+            canonicalSolution = entries.get(canonical.key);
+        }
+        if (canonicalSolution == null) {
+            misses.incrementAndGet();
+            return new Lookup(null, canonical);
+        }
+        hits.incrementAndGet();
+        return new Lookup(canonical.transform.invert(canonicalSolution), canonical);
+    }
+
+    // Stores the solution of the board a missed lookup was made for.
+    public void store(Lookup miss, int[][] solution) {
+        if (solution == null || miss.isHit()) return;
+        int[][] canonicalSolution = miss.canonical.transform.apply(solution);
+        synchronized (entries) {
+            entries.put(miss.canonical.key, canonicalSolution);
+        }
+    }
+
+    private SudokuSymmetry symmetryFor(int N) {
+        synchronized (symmetries) {
+            return symmetries.computeIfAbsent(N, SudokuSymmetry::new);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : hits.get() / (double) total;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    private int[][] copyBoard(int[][] board) {
+        int[][] copy = new int[board.length][];
+        for (int i = 0; i < board.length; i++) {
+            copy[i] = Arrays.copyOf(board[i], board[i].length);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,207 @@
+package implementations;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * ============================================
+ *       SolveBudget Class
+ * ============================================
+ * Used For: Bounding a single solve with a wall-clock deadline, a search-node budget and external
+ * cancellation (cancel() or thread interruption). Solvers call tick() once per search node; the
+ * clock and cancellation flags are only read every few hundred nodes to keep the hot path cheap.
+ * An optional ProgressListener is called from those same checks, at most once per interval.
+ * child() gives each worker of a parallel search its own node counter that still honours the
+ * parent's deadline, node budget and cancellation.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolveBudget {
+    private static final long CHECK_INTERVAL_MASK = 255;
+
+    public enum Reason {
+        DEADLINE,
+        NODE_LIMIT,
+        CANCELLED
+    }
+
+    public interface ProgressListener {
+        // Runs on the solving thread, so it should hand the numbers off rather than do real work.
+        void onProgress(long nodes, long elapsedNanos);
+    }
+
+    public static class ExhaustedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final Reason reason;
+        private final long nodes;
+        private final long elapsedMillis;
+
+        ExhaustedException(Reason reason, long nodes, long elapsedMillis, String message) {
+            super(message);
+            this.reason = reason;
+            this.nodes = nodes;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        public long getNodes() {
+            return nodes;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    private final long timeoutMillis;
+    private final long maxNodes;
+    private final SolveBudget parent;
+    // Nodes reported by child budgets, added to this budget's own count.
+    private final AtomicLong childNodes = new AtomicLong();
+    private long reportedNodes;
+    private volatile boolean cancelled = false;
+    private long startNanos;
+    private long deadlineNanos;
+    private long nodes;
+    private boolean progressEvents;
+    private long nextProgressNanos;
+    private ProgressListener progressListener;
+    private long listenerIntervalNanos;
+    private long nextListenerNanos;
+
+    public SolveBudget(long timeoutMillis, long maxNodes) {
+        this(timeoutMillis, maxNodes, null);
+    }
+
+    private SolveBudget(long timeoutMillis, long maxNodes, SolveBudget parent) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxNodes = maxNodes;
+        this.parent = parent;
+        reset();
+    }
+
+    public static SolveBudget unlimited() {
+        return new SolveBudget(0, 0);
+    }
+
+    public static SolveBudget ofMillis(long timeoutMillis) {
+        return new SolveBudget(timeoutMillis, 0);
+    }
+
+    // A child budget for one thread of a parallel search. It shares the parent's deadline and is
+    // cancelled with it; its nodes count towards the parent's node budget, checked every few
+    // hundred nodes, so a parallel search may overrun the budget by that much per thread.
+    public SolveBudget child() {
+        return new SolveBudget(timeoutMillis, maxNodes, this);
+    }
+
+    // Starting a child keeps the parent's clock, so restarting a worker never extends the deadline.
+    public void start() {
+        reset();
+    }
+
+    private void reset() {
+        this.nodes = 0;
+        this.reportedNodes = 0;
+        this.childNodes.set(0);
+        this.startNanos = parent != null ? parent.startNanos : System.nanoTime();
+        this.deadlineNanos = parent != null ? parent.deadlineNanos : startNanos + timeoutMillis * 1_000_000;
+        this.progressEvents = parent == null && SolverEvents.isProgressEnabled();
+        this.nextProgressNanos = startNanos + SolverEvents.PROGRESS_INTERVAL_MILLIS * 1_000_000;
+        this.nextListenerNanos = startNanos + listenerIntervalNanos;
+    }
+
+    public void tick() {
+        nodes++;
+        if (maxNodes > 0 && nodes > maxNodes) {
+            throw exhausted(Reason.NODE_LIMIT);
+        }
+        if ((nodes & CHECK_INTERVAL_MASK) == 0) {
+            check();
+        }
+    }
+
+    public void check() {
+        if (cancelled || (parent != null && parent.cancelled) || Thread.currentThread().isInterrupted()) {
+            throw exhausted(Reason.CANCELLED);
+        }
+        if (parent != null) {
+            long total = parent.childNodes.addAndGet(nodes - reportedNodes);
+            reportedNodes = nodes;
+            if (maxNodes > 0 && total > maxNodes) {
+                throw exhausted(Reason.NODE_LIMIT);
+            }
+        }
+        if (timeoutMillis > 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw exhausted(Reason.DEADLINE);
+        }
+        if (progressEvents || progressListener != null) {
+            long now = System.nanoTime();
+            if (progressEvents && now - nextProgressNanos >= 0) {
+                SolverEvents.progress(nodes, now - startNanos);
+                nextProgressNanos = now + SolverEvents.PROGRESS_INTERVAL_MILLIS * 1_000_000;
+            }
+            if (progressListener != null && now - nextListenerNanos >= 0) {
+                progressListener.onProgress(nodes, now - startNanos);
+                nextListenerNanos = now + listenerIntervalNanos;
+            }
+        }
+    }
+
+    public void setProgressListener(ProgressListener listener, long intervalMillis) {
+        this.progressListener = listener;
+        this.listenerIntervalNanos = intervalMillis * 1_000_000;
+        this.nextListenerNanos = startNanos + listenerIntervalNanos;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getNodes() {
+        return nodes + childNodes.get();
+    }
+
+    // Hands the nodes counted since the last check to the parent, once the worker is done.
+    public void flushToParent() {
+        if (parent == null) return;
+        parent.childNodes.addAndGet(nodes - reportedNodes);
+        reportedNodes = nodes;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    private ExhaustedException exhausted(Reason reason) {
+        String message;
+        switch (reason) {
+            case DEADLINE:
+                message = "Timeout exceeded (" + (timeoutMillis / 1000) + " seconds)";
+                break;
+            case NODE_LIMIT:
+                message = "Node budget exceeded (" + maxNodes + " nodes)";
+                break;
+            default:
+                message = "Solve cancelled after " + nodes + " nodes";
+                break;
+        }
+        return new ExhaustedException(reason, nodes, getElapsedMillis(), message);
+    }
+}
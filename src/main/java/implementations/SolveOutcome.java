@@ -0,0 +1,106 @@
+package implementations;
+
+/*
+ * ============================================
+ *       SolveOutcome Class
+ * ============================================
+ * Used For: The immutable answer returned by ConcurrentSolver: solver name, status, solution and
+ * the solve stats. The solution is owned by the outcome and only handed out as a copy, so one
+ * outcome can be read from any number of threads without defensive copying by the caller.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public final class SolveOutcome {
+
+    public enum Status {
+        SOLVED,
+        UNSOLVABLE,
+        EXHAUSTED
+    }
+
+    private final String solverName;
+    private final int size;
+    private final Status status;
+    private final SolveBudget.Reason exhaustedReason;
+    private final int[][] solution;
+    private final int numberOfGuesses;
+    private final int propagationDepth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    // The solution array must not be shared with anyone else; ConcurrentSolver passes a fresh one.
+    SolveOutcome(String solverName, int size, Status status, SolveBudget.Reason exhaustedReason, int[][] solution,
+                 int numberOfGuesses, int propagationDepth, long nodes, long elapsedNanos) {
+        this.solverName = solverName;
+        this.size = size;
+        this.status = status;
+        this.exhaustedReason = exhaustedReason;
+        this.solution = solution;
+        this.numberOfGuesses = numberOfGuesses;
+        this.propagationDepth = propagationDepth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getSolverName() {
+        return solverName;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSolved() {
+        return status == Status.SOLVED;
+    }
+
+    public SolveBudget.Reason getExhaustedReason() {
+        return exhaustedReason;
+    }
+
+    public int[][] getSolution() {
+        if (solution == null) return null;
+        int[][] copy = new int[size][];
+        for (int i = 0; i < size; i++) copy[i] = solution[i].clone();
+        return copy;
+    }
+
+    public int getCell(int row, int col) {
+        if (solution == null) {
+            throw new IllegalStateException("No solution: " + status);
+        }
+        return solution[row][col];
+    }
+
+    public int getNumberOfGuesses() {
+        return numberOfGuesses;
+    }
+
+    public int getPropagationDepth() {
+        return propagationDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMicros() {
+        return elapsedNanos / 1_000;
+    }
+
+    @Override
+    public String toString() {
+        return solverName + " " + size + "x" + size + " " + status
+                + (exhaustedReason != null ? " (" + exhaustedReason + ")" : "")
+                + " guesses=" + numberOfGuesses + " depth=" + propagationDepth + " time=" + getElapsedMicros() + "us";
+    }
+}
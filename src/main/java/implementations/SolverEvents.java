@@ -0,0 +1,261 @@
+package implementations;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/*
+ * ============================================
+ *       SolverEvents Class
+ * ============================================
+ * Used For: Java Flight Recorder events for the solver phases: CNF encoding, DLX matrix build,
+ * the initial propagation of every solver, the search itself, and a progress event every
+ * PROGRESS_INTERVAL_MILLIS during long searches (emitted from SolveBudget's periodic check).
+ * Each begin method returns null unless a recording has the event enabled, so with JFR off a
+ * phase costs two flag checks, allocates nothing and never loads the JFR event classes. Record
+ * with the usual JDK tooling, e.g.
+ *   java -XX:StartFlightRecording=filename=solve.jfr ...   or   jcmd <pid> JFR.start
+ * and look for the "Sudoku" category in JDK Mission Control or `jfr print --categories Sudoku`.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public final class SolverEvents {
+    public static final long PROGRESS_INTERVAL_MILLIS = 500;
+
+    @Name("sudoku.Encode")
+    @Label("CNF Encode")
+    @Category({"Sudoku", "Phases"})
+    @Description("SudokuCnfEncoder turning a board into clauses")
+    @StackTrace(false)
+    public static final class EncodeEvent extends Event {
+        @Label("Board Size")
+        int size;
+        @Label("Clues")
+        int clues;
+        @Label("Variables")
+        int variables;
+        @Label("Clauses")
+        int clauses;
+    }
+
+    @Name("sudoku.MatrixBuild")
+    @Label("DLX Matrix Build")
+    @Category({"Sudoku", "Phases"})
+    @Description("DLXSolver building its exact cover matrix")
+    @StackTrace(false)
+    public static final class MatrixBuildEvent extends Event {
+        @Label("Board Size")
+        int size;
+        @Label("Clues")
+        int clues;
+        @Label("Compact")
+        boolean compact;
+        @Label("Rows")
+        int rows;
+    }
+
+    @Name("sudoku.Propagation")
+    @Label("Initial Propagation")
+    @Category({"Sudoku", "Phases"})
+    @Description("Clue propagation before a solver starts guessing")
+    @StackTrace(false)
+    public static final class PropagationEvent extends Event {
+        @Label("Solver")
+        String solver;
+        @Label("Board Size")
+        int size;
+        @Label("Clues")
+        int clues;
+        @Label("Assigned")
+        @Description("Cells, literals or DLX rows fixed once propagation finished")
+        int assigned;
+        @Label("Contradiction")
+        boolean contradiction;
+    }
+
+    @Name("sudoku.Search")
+    @Label("Search")
+    @Category({"Sudoku", "Phases"})
+    @Description("The guessing part of a solve")
+    @StackTrace(false)
+    public static final class SearchEvent extends Event {
+        @Label("Solver")
+        String solver;
+        @Label("Board Size")
+        int size;
+        @Label("Clues")
+        int clues;
+        @Label("Guesses")
+        int guesses;
+        @Label("Depth")
+        int depth;
+        @Label("Nodes")
+        long nodes;
+        @Label("Solved")
+        boolean solved;
+    }
+
+    @Name("sudoku.SearchProgress")
+    @Label("Search Progress")
+    @Category({"Sudoku", "Progress"})
+    @Description("Periodic node count of a running solve")
+    @StackTrace(false)
+    public static final class SearchProgressEvent extends Event {
+        @Label("Nodes")
+        long nodes;
+        @Label("Elapsed")
+        @Timespan(Timespan.MILLISECONDS)
+        long elapsed;
+        @Label("Nodes Per Second")
+        long nodesPerSecond;
+    }
+
+    // Loading an event class initialises the JFR machinery (a few hundred ms), so the types are
+    // only looked up once a recorder exists, e.g. after -XX:StartFlightRecording or JFR.start.
+    private static final class Types {
+        static final EventType ENCODE = EventType.getEventType(EncodeEvent.class);
+        static final EventType MATRIX_BUILD = EventType.getEventType(MatrixBuildEvent.class);
+        static final EventType PROPAGATION = EventType.getEventType(PropagationEvent.class);
+        static final EventType SEARCH = EventType.getEventType(SearchEvent.class);
+        static final EventType PROGRESS = EventType.getEventType(SearchProgressEvent.class);
+    }
+
+    private SolverEvents() {
+    }
+
+    public static EncodeEvent beginEncode(int[][] board) {
+        if (!FlightRecorder.isInitialized() || !Types.ENCODE.isEnabled()) return null;
+        EncodeEvent event = new EncodeEvent();
+        event.size = board.length;
+        event.clues = countClues(board);
+        event.begin();
+        return event;
+    }
+
+    // The clue-free base CNF that is built once per size.
+    public static EncodeEvent beginEncode(int size) {
+        if (!FlightRecorder.isInitialized() || !Types.ENCODE.isEnabled()) return null;
+        EncodeEvent event = new EncodeEvent();
+        event.size = size;
+        event.begin();
+        return event;
+    }
+
+    public static void endEncode(EncodeEvent event, int variables, int clauses) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.variables = variables;
+            event.clauses = clauses;
+            event.commit();
+        }
+    }
+
+    public static MatrixBuildEvent beginMatrixBuild(int[][] board, boolean compact) {
+        if (!FlightRecorder.isInitialized() || !Types.MATRIX_BUILD.isEnabled()) return null;
+        MatrixBuildEvent event = new MatrixBuildEvent();
+        event.size = board.length;
+        event.clues = countClues(board);
+        event.compact = compact;
+        event.begin();
+        return event;
+    }
+
+    public static void endMatrixBuild(MatrixBuildEvent event, int rows) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    public static PropagationEvent beginPropagation(String solver, int[][] board) {
+        if (!FlightRecorder.isInitialized() || !Types.PROPAGATION.isEnabled()) return null;
+        return beginPropagation(solver, board.length, countClues(board));
+    }
+
+    public static PropagationEvent beginPropagation(String solver, int size, int clues) {
+        if (!FlightRecorder.isInitialized() || !Types.PROPAGATION.isEnabled()) return null;
+        PropagationEvent event = new PropagationEvent();
+        event.solver = solver;
+        event.size = size;
+        event.clues = clues;
+        event.begin();
+        return event;
+    }
+
+    public static void endPropagation(PropagationEvent event, int assigned, boolean contradiction) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.assigned = assigned;
+            event.contradiction = contradiction;
+            event.commit();
+        }
+    }
+
+    // For solvers whose propagation fixes exactly the clues (nothing is deduced beyond them).
+    public static void endPropagationAtClues(PropagationEvent event, boolean contradiction) {
+        if (event == null) return;
+        endPropagation(event, contradiction ? 0 : event.clues, contradiction);
+    }
+
+    public static SearchEvent beginSearch(String solver, int[][] board) {
+        if (!FlightRecorder.isInitialized() || !Types.SEARCH.isEnabled()) return null;
+        return beginSearch(solver, board.length, countClues(board));
+    }
+
+    public static SearchEvent beginSearch(String solver, int size, int clues) {
+        if (!FlightRecorder.isInitialized() || !Types.SEARCH.isEnabled()) return null;
+        SearchEvent event = new SearchEvent();
+        event.solver = solver;
+        event.size = size;
+        event.clues = clues;
+        event.begin();
+        return event;
+    }
+
+    public static void endSearch(SearchEvent event, int guesses, int depth, long nodes, boolean solved) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.guesses = guesses;
+            event.depth = depth;
+            event.nodes = nodes;
+            event.solved = solved;
+            event.commit();
+        }
+    }
+
+    static boolean isProgressEnabled() {
+        return FlightRecorder.isInitialized() && Types.PROGRESS.isEnabled();
+    }
+
+    static void progress(long nodes, long elapsedNanos) {
+        SearchProgressEvent event = new SearchProgressEvent();
+        if (event.shouldCommit()) {
+            event.nodes = nodes;
+            event.elapsed = elapsedNanos / 1_000_000;
+            event.nodesPerSecond = elapsedNanos > 0 ? (long) (nodes * 1e9 / elapsedNanos) : 0;
+            event.commit();
+        }
+    }
+
+    private static int countClues(int[][] board) {
+        int clues = 0;
+        for (int[] row : board) {
+            if (row == null) continue;
+            for (int cell : row)
+                if (cell != 0) clues++;
+        }
+        return clues;
+    }
+}
@@ -0,0 +1,42 @@
+package implementations;
+
+/*
+ * ============================================
+ *       SolverLatencyMXBean Interface
+ * ============================================
+ * Used For: The JMX view of one solver and board size in SolverMetrics, registered on the
+ * platform MBean server as sudoku.solvers:type=SolverLatency,solver=<name>,size=<N> so that
+ * jconsole, JMC or any JMX client can watch live latency percentiles and counters.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public interface SolverLatencyMXBean {
+    String getSolver();
+
+    int getSize();
+
+    long getCount();
+
+    long getSolved();
+
+    long getUnsolved();
+
+    long getTimeouts();
+
+    long getFailures();
+
+    double getThroughputPerSecond();
+
+    double getMeanMicros();
+
+    long getP50Micros();
+
+    long getP90Micros();
+
+    long getP99Micros();
+
+    long getP999Micros();
+
+    long getMaxMicros();
+}
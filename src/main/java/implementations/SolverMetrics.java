@@ -0,0 +1,246 @@
+package implementations;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ============================================
+ *       SolverMetrics Class
+ * ============================================
+ * Used For: In-process solve metrics for long-running processes. Every solver and board size gets
+ * a lock-free LatencyHistogram plus solved/unsolved/timeout/failure counters. The global()
+ * registry also publishes each series as a platform MBean (see SolverLatencyMXBean), and
+ * startSnapshots() rewrites a local CSV file with the current figures at a fixed period.
+ * Main, the UI, ConcurrentSolver and the HTTP service all record into global().
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverMetrics {
+    public static final String JMX_DOMAIN = "sudoku.solvers";
+
+    public enum Outcome {
+        SOLVED,
+        UNSOLVED,
+        TIMEOUT,
+        FAILED
+    }
+
+    public static class Series implements SolverLatencyMXBean {
+        private final String solver;
+        private final int size;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder solved = new LongAdder();
+        private final LongAdder unsolved = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final long createdNanos = System.nanoTime();
+
+        Series(String solver, int size) {
+            this.solver = solver;
+            this.size = size;
+        }
+
+        void record(long nanos, Outcome outcome) {
+            latency.record(nanos);
+            switch (outcome) {
+                case SOLVED:
+                    solved.increment();
+                    break;
+                case UNSOLVED:
+                    unsolved.increment();
+                    break;
+                case TIMEOUT:
+                    timeouts.increment();
+                    break;
+                default:
+                    failures.increment();
+                    break;
+            }
+        }
+
+        public LatencyHistogram.Snapshot snapshot() {
+            return latency.snapshot();
+        }
+
+        public String getSolver() {
+            return solver;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getSolved() {
+            return solved.sum();
+        }
+
+        public long getUnsolved() {
+            return unsolved.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        // Solves per second since this series saw its first solve.
+        public double getThroughputPerSecond() {
+            double seconds = (System.nanoTime() - createdNanos) / 1e9;
+            return getCount() / Math.max(seconds, 1e-3);
+        }
+
+        public double getMeanMicros() {
+            return latency.snapshot().meanNanos / 1_000;
+        }
+
+        public long getP50Micros() {
+            return latency.percentile(50) / 1_000;
+        }
+
+        public long getP90Micros() {
+            return latency.percentile(90) / 1_000;
+        }
+
+        public long getP99Micros() {
+            return latency.percentile(99) / 1_000;
+        }
+
+        public long getP999Micros() {
+            return latency.percentile(99.9) / 1_000;
+        }
+
+        public long getMaxMicros() {
+            return latency.snapshot().maxNanos / 1_000;
+        }
+    }
+
+    private static final SolverMetrics GLOBAL = new SolverMetrics(true);
+
+    private final boolean publishMBeans;
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public SolverMetrics() {
+        this(false);
+    }
+
+    private SolverMetrics(boolean publishMBeans) {
+        this.publishMBeans = publishMBeans;
+    }
+
+    public static SolverMetrics global() {
+        return GLOBAL;
+    }
+
+    public void record(String solver, int size, long nanos, Outcome outcome) {
+        series(solver, size).record(nanos, outcome);
+    }
+
+    public Series series(String solver, int size) {
+        return series.computeIfAbsent(solver + "/" + size, key -> {
+            Series created = new Series(solver, size);
+            if (publishMBeans) register(created);
+            return created;
+        });
+    }
+
+    public List<Series> allSeries() {
+        List<Series> result = new ArrayList<>(series.values());
+        result.sort(Comparator.comparing(Series::getSolver).thenComparingInt(Series::getSize));
+        return result;
+    }
+
+    private void register(Series created) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=SolverLatency,solver="
+                    + ObjectName.quote(created.solver) + ",size=" + created.size);
+            if (!server.isRegistered(name)) server.registerMBean(created, name);
+        } catch (JMException e) {
+            System.out.println("Could not publish solver metrics over JMX: " + e.getMessage());
+        }
+    }
+
+    public String snapshotCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Timestamp,Solver,Size,Count,Solved,Unsolved,Timeouts,Failures,ThroughputPerSecond,"
+                + "Mean(μs),P50(μs),P90(μs),P99(μs),P999(μs),Max(μs)\n");
+        long now = System.currentTimeMillis();
+        for (Series s : allSeries()) {
+            LatencyHistogram.Snapshot snapshot = s.snapshot();
+            sb.append(now).append(',')
+                    .append(s.solver).append(',')
+                    .append(s.size).append(',')
+                    .append(snapshot.count).append(',')
+                    .append(s.getSolved()).append(',')
+                    .append(s.getUnsolved()).append(',')
+                    .append(s.getTimeouts()).append(',')
+                    .append(s.getFailures()).append(',')
+                    .append(String.format("%.2f", s.getThroughputPerSecond())).append(',')
+                    .append(String.format("%.1f", snapshot.meanNanos / 1e3)).append(',')
+                    .append(snapshot.p50Nanos / 1_000).append(',')
+                    .append(snapshot.p90Nanos / 1_000).append(',')
+                    .append(snapshot.p99Nanos / 1_000).append(',')
+                    .append(snapshot.p999Nanos / 1_000).append(',')
+                    .append(snapshot.maxNanos / 1_000).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Written to a sibling temp file and moved into place, so readers never see half a snapshot.
+    public void writeSnapshot(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, snapshotCsv(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Returns a handle whose close() stops the writer after one final snapshot.
+    public AutoCloseable startSnapshots(Path file, long periodMillis) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "solver-metrics-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runnable write = () -> {
+            try {
+                writeSnapshot(file);
+            } catch (IOException e) {
+                System.out.println("Error writing metrics snapshot: " + e.getMessage());
+            }
+        };
+        scheduler.scheduleAtFixedRate(write, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return () -> {
+            scheduler.shutdownNow();
+            write.run();
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package implementations;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * ============================================
+ *       SolverPool Class
+ * ============================================
+ * Used For: Keeping idle ReusableSolver instances per solver name and board size, so request
+ * threads and benchmark loops borrow a warmed-up solver instead of building a new one; the
+ * idle lists are plain array deques so borrowing and returning do not allocate either. A solver
+ * belongs to one thread between acquire() and release(); release() resets it.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverPool {
+    private final Map<String, Map<Integer, ArrayDeque<ReusableSolver>>> idle = new ConcurrentHashMap<>();
+
+    public ReusableSolver acquire(String solverName, int N) {
+        ArrayDeque<ReusableSolver> solvers = idleSolvers(solverName, N);
+        ReusableSolver solver;
+        synchronized (solvers) {
+            solver = solvers.pollFirst();
+        }
+        return solver != null ? solver : create(solverName, N);
+    }
+
+    public void release(ReusableSolver solver) {
+        solver.reset();
+        ArrayDeque<ReusableSolver> solvers = idleSolvers(solver.getName(), solver.getSize());
+        synchronized (solvers) {
+            solvers.offerFirst(solver);
+        }
+    }
+
+    public int idleCount(String solverName, int N) {
+        ArrayDeque<ReusableSolver> solvers = idleSolvers(solverName, N);
+        synchronized (solvers) {
+            return solvers.size();
+        }
+    }
+
+    public static ReusableSolver create(String solverName, int N) {
+        switch (solverName) {
+            case "Backtracking":
+                return new BackTrackingSolver(N, false);
+            case "ConstraintPropagation":
+                return new ConstraintPropagationSolver(N, false);
+            case "DPLLSAT":
+                return new DPLLSATSolver(N, false);
+            case "DLX":
+                return new DLXSolver(N, false);
+            default:
+                throw new IllegalArgumentException("Unknown solver: " + solverName);
+        }
+    }
+
+    private ArrayDeque<ReusableSolver> idleSolvers(String solverName, int N) {
+        return idle.computeIfAbsent(solverName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(N, size -> new ArrayDeque<>());
+    }
+}
@@ -0,0 +1,259 @@
+package implementations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * ============================================
+ *       SolverRouter Class
+ * ============================================
+ * Used For: Picking the solver that is expected to be fastest for a puzzle. A puzzle is described
+ * by its size, fill ratio, hint spread and a presolve probe (the share of empty cells the
+ * Presolver can fill), and those features are binned at four levels from exact to size-only.
+ * Each bin keeps a running mean of log solve time per solver; routing uses the most specific bin
+ * in which every solver has been timed. Failed or timed-out solves are charged a penalty time.
+ * The model can be seeded from the results/*.csv files Main writes, and observe() keeps updating
+ * it as new timings arrive. recordRouting() tracks how often the routed solver was the fastest.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverRouter {
+    public static final List<String> SOLVERS = List.of("Backtracking", "ConstraintPropagation", "DPLLSAT", "DLX");
+    private static final String DEFAULT_SOLVER = "DLX";
+    // After this many samples a bin's mean turns into an exponential average, so old timings fade.
+    private static final int MEAN_WINDOW = 50;
+    private static final Pattern SIZE_IN_FILE_NAME = Pattern.compile("(\\d+)x\\1");
+
+    public static class Features {
+        public final int size;
+        public final int hintCount;
+        public final double hintSpread;
+        // Cells the Presolver filled beyond the clues, or -1 when no probe was run.
+        public final int presolveFilled;
+
+        public Features(int size, int hintCount, double hintSpread, int presolveFilled) {
+            this.size = size;
+            this.hintCount = hintCount;
+            this.hintSpread = hintSpread;
+            this.presolveFilled = presolveFilled;
+        }
+
+        public static Features of(int[][] board) {
+            Presolver.Result probe = new Presolver(board.length).presolve(board);
+            return new Features(board.length, Main.countHints(board), Main.computeHintSpread(board), probe.filledCells);
+        }
+
+        // From the most specific bin to the least specific one.
+        String[] keys() {
+            int cells = size * size;
+            int fillBin = Math.min(9, hintCount * 10 / Math.max(1, cells));
+            int spreadBin = Math.min(3, (int) Math.round(hintSpread * 3 / Math.sqrt(size)));
+            int probeBin;
+            if (presolveFilled < 0) {
+                probeBin = -1;
+            } else {
+                int empty = cells - hintCount;
+                probeBin = presolveFilled >= empty ? 3 : presolveFilled == 0 ? 0 : presolveFilled * 2 < empty ? 1 : 2;
+            }
+            return new String[]{
+                    size + "/" + fillBin + "/" + spreadBin + "/" + probeBin,
+                    size + "/" + fillBin + "/" + spreadBin,
+                    size + "/" + fillBin,
+                    String.valueOf(size)
+            };
+        }
+    }
+
+    private static class Estimate {
+        long count;
+        double meanLogMillis;
+
+        void add(double logMillis) {
+            count++;
+            meanLogMillis += (logMillis - meanLogMillis) / Math.min(count, MEAN_WINDOW);
+        }
+    }
+
+    private final List<String> solvers;
+    private final Map<String, Map<String, Estimate>> bins = new HashMap<>();
+    private double failurePenaltyMillis = 120_000;
+    private long routed;
+    private long routedCorrectly;
+
+    public SolverRouter() {
+        this(SOLVERS);
+    }
+
+    public SolverRouter(List<String> solvers) {
+        if (solvers.isEmpty()) throw new IllegalArgumentException("Router needs at least one solver.");
+        this.solvers = List.copyOf(solvers);
+    }
+
+    public static SolverRouter fromResults(Path directory) throws IOException {
+        return fromResults(directory, Set.of());
+    }
+
+    // Skips rows whose OriginalPuzzle (cells as Main.boardToString writes them) is in
+    // excludedPuzzles, so a run can be graded on puzzles the router has not been trained on.
+    public static SolverRouter fromResults(Path directory, Set<String> excludedPuzzles) throws IOException {
+        SolverRouter router = new SolverRouter();
+        if (!Files.isDirectory(directory)) return router;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path file : files) router.loadCsv(file, excludedPuzzles);
+        }
+        return router;
+    }
+
+    public int loadCsv(Path file) throws IOException {
+        return loadCsv(file, Set.of());
+    }
+
+    // Learns from the rows of one results CSV and returns how many rows were used. Files that are
+    // not solver results (no Solver or AverageTime column) are skipped.
+    public int loadCsv(Path file, Set<String> excludedPuzzles) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        String[] header;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null) return 0;
+            header = line.split(",", -1);
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) rows.add(line.split(",", -1));
+            }
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) columns.put(header[i].trim(), i);
+        Integer puzzleCol = columns.get("PuzzleName");
+        Integer solverCol = columns.get("Solver");
+        Integer timeCol = columns.get("AverageTime(ms)");
+        Integer hintCol = columns.get("HintCount");
+        Integer spreadCol = columns.get("HintVariance");
+        if (puzzleCol == null || solverCol == null || timeCol == null || hintCol == null || spreadCol == null) return 0;
+        Integer solvedCol = columns.get("Solved");
+        Integer sizeCol = columns.get("Size");
+        Integer solutionCol = columns.get("Solution");
+        Integer probeCol = columns.get("PresolveCells");
+        Integer originalCol = columns.get("OriginalPuzzle");
+
+        // Older files have no Size column and concatenate cells without separators, so the size
+        // comes from the solution length, from any solved row of the same puzzle, or the file name.
+        Map<String, Integer> puzzleSizes = new HashMap<>();
+        for (String[] row : rows) {
+            int size = sizeCol != null ? parseInt(cell(row, sizeCol), 0) : sizeFromSolution(cell(row, solutionCol));
+            if (size > 0) puzzleSizes.putIfAbsent(cell(row, puzzleCol), size);
+        }
+        Matcher matcher = SIZE_IN_FILE_NAME.matcher(file.getFileName().toString());
+        int fileSize = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+
+        int learned = 0;
+        for (String[] row : rows) {
+            String solver = cell(row, solverCol);
+            int size = puzzleSizes.getOrDefault(cell(row, puzzleCol), fileSize);
+            if (!solvers.contains(solver) || size <= 0) continue;
+            if (originalCol != null && excludedPuzzles.contains(cell(row, originalCol))) continue;
+            try {
+                Features features = new Features(size, Integer.parseInt(cell(row, hintCol)),
+                        Double.parseDouble(cell(row, spreadCol)), probeCol != null ? parseInt(cell(row, probeCol), -1) : -1);
+                boolean solved = solvedCol == null || cell(row, solvedCol).equals("Yes");
+                observe(features, solver, solved ? Double.parseDouble(cell(row, timeCol)) : 0, solved);
+                learned++;
+            } catch (NumberFormatException e) {
+                // Rows from interrupted runs can have empty numeric columns; they carry no timing.
+            }
+        }
+        return learned;
+    }
+
+    public synchronized void observe(Features features, String solver, double millis, boolean solved) {
+        double charged = solved ? Math.max(millis, 0.001) : Math.max(millis, failurePenaltyMillis);
+        double logMillis = Math.log(charged);
+        for (String key : features.keys()) {
+            bins.computeIfAbsent(key, k -> new HashMap<>()).computeIfAbsent(solver, s -> new Estimate()).add(logMillis);
+        }
+    }
+
+    public String route(int[][] board) {
+        return route(Features.of(board));
+    }
+
+    public synchronized String route(Features features) {
+        for (String key : features.keys()) {
+            Map<String, Estimate> bin = bins.get(key);
+            if (bin == null || !bin.keySet().containsAll(solvers)) continue;
+            String best = null;
+            double bestMean = Double.MAX_VALUE;
+            for (String solver : solvers) {
+                double mean = bin.get(solver).meanLogMillis;
+                if (mean < bestMean) {
+                    bestMean = mean;
+                    best = solver;
+                }
+            }
+            return best;
+        }
+        return solvers.contains(DEFAULT_SOLVER) ? DEFAULT_SOLVER : solvers.get(0);
+    }
+
+    // Expected solve time in the most specific bin that has timed this solver, or NaN if none has.
+    public synchronized double expectedMillis(Features features, String solver) {
+        for (String key : features.keys()) {
+            Map<String, Estimate> bin = bins.get(key);
+            if (bin != null && bin.containsKey(solver)) return Math.exp(bin.get(solver).meanLogMillis);
+        }
+        return Double.NaN;
+    }
+
+    public synchronized void recordRouting(String routedSolver, String fastestSolver) {
+        routed++;
+        if (routedSolver.equals(fastestSolver)) routedCorrectly++;
+    }
+
+    public synchronized long getRoutedCount() {
+        return routed;
+    }
+
+    public synchronized double getAccuracy() {
+        return routed == 0 ? 0 : routedCorrectly / (double) routed;
+    }
+
+    public synchronized void setFailurePenaltyMillis(double failurePenaltyMillis) {
+        this.failurePenaltyMillis = failurePenaltyMillis;
+    }
+
+    // Main.boardToString writes every cell as its decimal value with no separator, so an NxN
+    // solution has N copies of 1..N and a length of N times the digits in 1..N.
+    static int sizeFromSolution(String solution) {
+        if (solution == null || solution.isEmpty() || !Character.isDigit(solution.charAt(0))) return 0;
+        for (int box = 1; box <= 10; box++) {
+            int size = box * box;
+            int digits = 0;
+            for (int value = 1; value <= size; value++) digits += String.valueOf(value).length();
+            if (size * digits == solution.length()) return size;
+        }
+        return 0;
+    }
+
+    private static String cell(String[] row, Integer column) {
+        return column != null && column < row.length ? row[column].trim() : "";
+    }
+
+    private static int parseInt(String text, int fallback) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
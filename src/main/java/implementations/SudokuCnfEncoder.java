@@ -2,6 +2,8 @@ package implementations;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * ============================================
@@ -13,9 +15,13 @@ import java.util.List;
  */
 
 public class SudokuCnfEncoder {
+    public static final int PAIRWISE_LIMIT = 25;
+    private static final Map<Integer, int[][]> BASE_CACHE = new ConcurrentHashMap<>();
+
     private final int N;
     public final int blockH;
     public final int blockW;
+    private int nextAuxVar;
 
     public SudokuCnfEncoder(int N) {
         int s = (int) Math.sqrt(N);
@@ -25,21 +31,60 @@ public class SudokuCnfEncoder {
         this.N = N;
         this.blockH = s;
         this.blockW = s;
+        this.nextAuxVar = N * N * N + 1;
+    }
+
+    // Boards above 25x25 use a sequential-counter at-most-one encoding (O(N) clauses per group
+    // with N-1 auxiliary variables numbered after N^3) instead of O(N^2) pairwise clauses.
+    public static int variableCount(int N) {
+        int cellVars = N * N * N;
+        return N > PAIRWISE_LIMIT ? cellVars + 4 * N * N * (N - 1) : cellVars;
     }
 
     public int var(int r, int c, int d) {
         return (r - 1) * N * N + (c - 1) * N + d;
     }
 
+    // The structural clauses depend only on N, so they are built once per size and shared by all
+    // threads. Callers must treat the returned clauses as read-only and copy before reordering.
+    public static int[][] baseClauses(int N) {
+        return BASE_CACHE.computeIfAbsent(N, size -> {
+            SolverEvents.EncodeEvent event = SolverEvents.beginEncode(size);
+            SudokuCnfEncoder encoder = new SudokuCnfEncoder(size);
+            int[][] clauses = encoder.encodeBase().toArray(new int[0][]);
+            SolverEvents.endEncode(event, variableCount(size), clauses.length);
+            return clauses;
+        });
+    }
+
     public int[][] encodeSudoku(int[][] board) {
+        SolverEvents.EncodeEvent event = SolverEvents.beginEncode(board);
+        List<int[]> C = encodeBase();
+        addClues(C, board);
+        int[][] clauses = C.toArray(new int[0][]);
+        SolverEvents.endEncode(event, variableCount(N), clauses.length);
+        return clauses;
+    }
+
+    public int[] clueLiterals(int[][] board) {
+        SolverEvents.EncodeEvent event = SolverEvents.beginEncode(board);
+        List<int[]> C = new ArrayList<>();
+        addClues(C, board);
+        int[] literals = new int[C.size()];
+        for (int i = 0; i < literals.length; i++) literals[i] = C.get(i)[0];
+        SolverEvents.endEncode(event, variableCount(N), literals.length);
+        return literals;
+    }
+
+    private List<int[]> encodeBase() {
+        nextAuxVar = N * N * N + 1;
         List<int[]> C = new ArrayList<>();
         addCell(C);
         addUniqueness(C);
         addRow(C);
         addCol(C);
         addBox(C);
-        addClues(C, board);
-        return C.toArray(new int[0][]);
+        return C;
     }
 
     public void addCell(List<int[]> C) {
@@ -54,10 +99,32 @@ public class SudokuCnfEncoder {
 
     public void addUniqueness(List<int[]> C) {
         for (int r = 1; r <= N; r++)
-            for (int c = 1; c <= N; c++)
-                for (int d1 = 1; d1 <= N; d1++)
-                    for (int d2 = d1 + 1; d2 <= N; d2++)
-                        C.add(new int[]{-var(r, c, d1), -var(r, c, d2)});
+            for (int c = 1; c <= N; c++) {
+                int[] lits = new int[N];
+                for (int d = 1; d <= N; d++) lits[d - 1] = var(r, c, d);
+                addAtMostOne(C, lits);
+            }
+    }
+
+    public void addAtMostOne(List<int[]> C, int[] lits) {
+        if (N <= PAIRWISE_LIMIT) {
+            for (int x = 0; x < lits.length; x++)
+                for (int y = x + 1; y < lits.length; y++)
+                    C.add(new int[]{-lits[x], -lits[y]});
+            return;
+        }
+
+        int n = lits.length;
+        int prev = nextAuxVar++;
+        C.add(new int[]{-lits[0], prev});
+        for (int i = 1; i < n - 1; i++) {
+            int s = nextAuxVar++;
+            C.add(new int[]{-lits[i], s});
+            C.add(new int[]{-prev, s});
+            C.add(new int[]{-lits[i], -prev});
+            prev = s;
+        }
+        C.add(new int[]{-lits[n - 1], -prev});
     }
 
     public void addRow(List<int[]> C) {
@@ -66,9 +133,7 @@ public class SudokuCnfEncoder {
                 int[] cl = new int[N];
                 for (int c = 1; c <= N; c++) cl[c - 1] = var(r, c, d);
                 C.add(cl);
-                for (int c1 = 1; c1 <= N; c1++)
-                    for (int c2 = c1 + 1; c2 <= N; c2++)
-                        C.add(new int[]{-var(r, c1, d), -var(r, c2, d)});
+                addAtMostOne(C, cl);
             }
     }
 
@@ -78,9 +143,7 @@ public class SudokuCnfEncoder {
                 int[] cl = new int[N];
                 for (int r = 1; r <= N; r++) cl[r - 1] = var(r, c, d);
                 C.add(cl);
-                for (int r1 = 1; r1 <= N; r1++)
-                    for (int r2 = r1 + 1; r2 <= N; r2++)
-                        C.add(new int[]{-var(r1, c, d), -var(r2, c, d)});
+                addAtMostOne(C, cl);
             }
     }
 
@@ -96,10 +159,9 @@ public class SudokuCnfEncoder {
                             lits.add(var(r, c, d));
                         }
                     }
-                    C.add(lits.stream().mapToInt(x->x).toArray());
-                    for (int x = 0; x < lits.size(); x++)
-                        for (int y = x + 1; y < lits.size(); y++)
-                            C.add(new int[]{-lits.get(x), -lits.get(y)});
+                    int[] cl = lits.stream().mapToInt(x->x).toArray();
+                    C.add(cl);
+                    addAtMostOne(C, cl);
                 }
             }
         }
@@ -0,0 +1,279 @@
+package implementations;
+
+import java.util.*;
+
+/*
+ * ============================================
+ *       SudokuSymmetry Class
+ * ============================================
+ * Used For: Reducing a Sudoku board to a canonical form under the validity-preserving symmetries
+ * (digit relabeling, row/column swaps inside bands and stacks, band/stack swaps and transposition)
+ * and mapping boards back from the canonical orientation to the caller's orientation.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SudokuSymmetry {
+    public static final int MAX_CANDIDATES = 4096;
+
+    private final int N;
+    private final int boxSize;
+
+    public SudokuSymmetry(int N) {
+        int s = (int) Math.sqrt(N);
+        if (s * s != N) {
+            throw new IllegalArgumentException("N must be a perfect square (e.g., 4, 9, 16).");
+        }
+        this.N = N;
+        this.boxSize = s;
+    }
+
+    public static class Transform {
+        public final boolean transposed;
+        public final int[] rowOrder;
+        public final int[] colOrder;
+        public final int[] digitMap;
+
+        public Transform(boolean transposed, int[] rowOrder, int[] colOrder, int[] digitMap) {
+            this.transposed = transposed;
+            this.rowOrder = rowOrder;
+            this.colOrder = colOrder;
+            this.digitMap = digitMap;
+        }
+
+        public int[][] apply(int[][] board) {
+            int n = board.length;
+            int[][] result = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    int v = transposed ? board[colOrder[j]][rowOrder[i]] : board[rowOrder[i]][colOrder[j]];
+                    result[i][j] = digitMap[v];
+                }
+            }
+            return result;
+        }
+
+        public int[][] invert(int[][] board) {
+            int n = board.length;
+            int[] inverseDigits = new int[n + 1];
+            for (int d = 0; d <= n; d++) inverseDigits[digitMap[d]] = d;
+
+            int[][] result = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    int v = inverseDigits[board[i][j]];
+                    if (transposed) {
+                        result[colOrder[j]][rowOrder[i]] = v;
+                    } else {
+                        result[rowOrder[i]][colOrder[j]] = v;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    public static class CanonicalForm {
+        public final String key;
+        public final int[][] board;
+        public final Transform transform;
+
+        CanonicalForm(String key, int[][] board, Transform transform) {
+            this.key = key;
+            this.board = board;
+            this.transform = transform;
+        }
+    }
+
+    public CanonicalForm canonicalize(int[][] board) {
+        if (board == null || board.length != N) {
+            throw new IllegalArgumentException("Board must be " + N + "x" + N + " and contain values from 0 to " + N);
+        }
+
+        int[] best = null;
+        Transform bestTransform = null;
+        int[] candidate = new int[N * N];
+        int[] relabel = new int[N + 1];
+
+        for (int orientation = 0; orientation < 2; orientation++) {
+            boolean transposed = orientation == 1;
+            int[][] src = transposed ? transpose(board) : board;
+
+            List<int[]> rowOrders = lineOrders(rowKeys(src));
+            List<int[]> colOrders = lineOrders(rowKeys(transpose(src)));
+
+            int examined = 0;
+            for (int[] rowOrder : rowOrders) {
+                if (examined >= MAX_CANDIDATES) break;
+                for (int[] colOrder : colOrders) {
+                    if (examined++ >= MAX_CANDIDATES) break;
+
+                    Arrays.fill(relabel, 0);
+                    int nextLabel = 1;
+                    int cmp = best == null ? -1 : 0;
+                    int k = 0;
+                    for (int i = 0; i < N && cmp <= 0; i++) {
+                        int[] srcRow = src[rowOrder[i]];
+                        for (int j = 0; j < N; j++, k++) {
+                            int v = srcRow[colOrder[j]];
+                            if (v != 0) {
+                                if (relabel[v] == 0) relabel[v] = nextLabel++;
+                                v = relabel[v];
+                            }
+                            candidate[k] = v;
+                            if (cmp == 0 && v != best[k]) {
+                                cmp = v < best[k] ? -1 : 1;
+                                if (cmp > 0) break;
+                            }
+                        }
+                    }
+
+                    if (cmp < 0) {
+                        best = candidate.clone();
+                        bestTransform = new Transform(transposed, rowOrder, colOrder, completeDigitMap(relabel, nextLabel));
+                    }
+                }
+            }
+        }
+
+        int[][] canonicalBoard = new int[N][N];
+        char[] key = new char[N * N];
+        for (int k = 0; k < N * N; k++) {
+            canonicalBoard[k / N][k % N] = best[k];
+            key[k] = (char) ('0' + best[k]);
+        }
+        return new CanonicalForm(new String(key), canonicalBoard, bestTransform);
+    }
+
+    private int[] completeDigitMap(int[] relabel, int nextLabel) {
+        int[] digitMap = new int[N + 1];
+        for (int d = 1; d <= N; d++) {
+            digitMap[d] = relabel[d] != 0 ? relabel[d] : nextLabel++;
+        }
+        return digitMap;
+    }
+
+    private int[][] rowKeys(int[][] src) {
+        int[] colCounts = new int[N];
+        for (int r = 0; r < N; r++)
+            for (int c = 0; c < N; c++)
+                if (src[r][c] != 0) colCounts[c]++;
+
+        int[][] keys = new int[N][];
+        for (int r = 0; r < N; r++) {
+            int count = 0;
+            int[] stackCounts = new int[boxSize];
+            for (int c = 0; c < N; c++) {
+                if (src[r][c] != 0) {
+                    count++;
+                    stackCounts[c / boxSize]++;
+                }
+            }
+            int[] crossCounts = new int[count];
+            int idx = 0;
+            for (int c = 0; c < N; c++) {
+                if (src[r][c] != 0) crossCounts[idx++] = colCounts[c];
+            }
+            Arrays.sort(stackCounts);
+            Arrays.sort(crossCounts);
+
+            int[] key = new int[1 + boxSize + count];
+            key[0] = count;
+            System.arraycopy(stackCounts, 0, key, 1, boxSize);
+            System.arraycopy(crossCounts, 0, key, 1 + boxSize, count);
+            keys[r] = key;
+        }
+        return keys;
+    }
+
+    private List<int[]> lineOrders(int[][] lineKeys) {
+        List<List<int[]>> withinGroup = new ArrayList<>();
+        int[][] groupKeys = new int[boxSize][];
+        for (int g = 0; g < boxSize; g++) {
+            int[] lines = new int[boxSize];
+            for (int k = 0; k < boxSize; k++) lines[k] = g * boxSize + k;
+            int[][] keys = new int[boxSize][];
+            for (int k = 0; k < boxSize; k++) keys[k] = lineKeys[lines[k]];
+
+            int[] sorted = sortByKey(lines, keys);
+            int total = 0;
+            for (int line : sorted) total += lineKeys[line].length;
+            int[] groupKey = new int[total];
+            int pos = 0;
+            for (int line : sorted) {
+                System.arraycopy(lineKeys[line], 0, groupKey, pos, lineKeys[line].length);
+                pos += lineKeys[line].length;
+            }
+            groupKeys[g] = groupKey;
+            withinGroup.add(tiedPermutations(sorted, lineKeys));
+        }
+
+        int[] groups = new int[boxSize];
+        for (int g = 0; g < boxSize; g++) groups[g] = g;
+        List<int[]> groupPerms = tiedPermutations(sortByKey(groups, groupKeys), groupKeys);
+
+        List<int[]> orders = new ArrayList<>();
+        for (int[] groupPerm : groupPerms) {
+            expandGroups(groupPerm, 0, new int[N], withinGroup, orders);
+            if (orders.size() >= MAX_CANDIDATES) break;
+        }
+        return orders;
+    }
+
+    private void expandGroups(int[] groupPerm, int slot, int[] order, List<List<int[]>> withinGroup, List<int[]> out) {
+        if (out.size() >= MAX_CANDIDATES) return;
+        if (slot == boxSize) {
+            out.add(order.clone());
+            return;
+        }
+        for (int[] lines : withinGroup.get(groupPerm[slot])) {
+            System.arraycopy(lines, 0, order, slot * boxSize, boxSize);
+            expandGroups(groupPerm, slot + 1, order, withinGroup, out);
+            if (out.size() >= MAX_CANDIDATES) return;
+        }
+    }
+
+    private int[] sortByKey(int[] items, int[][] keys) {
+        Integer[] boxed = new Integer[items.length];
+        for (int i = 0; i < items.length; i++) boxed[i] = i;
+        Arrays.sort(boxed, (x, y) -> Arrays.compare(keys[x], keys[y]));
+        int[] sorted = new int[items.length];
+        for (int i = 0; i < items.length; i++) sorted[i] = items[boxed[i]];
+        return sorted;
+    }
+
+    // Items are already sorted by key; only items sharing a key may swap places.
+    private List<int[]> tiedPermutations(int[] sorted, int[][] keyOf) {
+        List<int[]> perms = new ArrayList<>();
+        permuteTies(sorted.clone(), 0, keyOf, perms);
+        return perms;
+    }
+
+    private void permuteTies(int[] items, int pos, int[][] keyOf, List<int[]> out) {
+        if (out.size() >= MAX_CANDIDATES) return;
+        if (pos == items.length) {
+            out.add(items.clone());
+            return;
+        }
+        for (int i = pos; i < items.length; i++) {
+            if (!Arrays.equals(keyOf[items[i]], keyOf[items[pos]])) break;
+            swap(items, pos, i);
+            permuteTies(items, pos + 1, keyOf, out);
+            swap(items, pos, i);
+        }
+    }
+
+    private void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private int[][] transpose(int[][] board) {
+        int[][] t = new int[N][N];
+        for (int r = 0; r < N; r++)
+            for (int c = 0; c < N; c++)
+                t[c][r] = board[r][c];
+        return t;
+    }
+}
@@ -0,0 +1,246 @@
+package implementations;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+ * ============================================
+ *       VectorBatchSolver Class
+ * ============================================
+ * Used For: Bulk-solving many 9x9 puzzles per core. Puzzles are packed one per SIMD lane
+ * (jdk.incubator.vector) and naked/hidden singles are propagated for the whole block in
+ * lockstep; a lane that still needs guessing afterwards is finished by the scalar presolve
+ * and DLX path. Needs --add-modules jdk.incubator.vector at compile and run time.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class VectorBatchSolver {
+    private static final int N = 9;
+    private static final int CELLS = N * N;
+    private static final short ALL = (short) ((1 << N) - 1);
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int[][] UNITS = new int[3 * N][N];
+    private static final int[][] UNITS_OF_CELL = new int[CELLS][3];
+
+    static {
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int cell = r * N + c;
+                int box = (r / 3) * 3 + c / 3;
+                UNITS[r][c] = cell;
+                UNITS[N + c][r] = cell;
+                UNITS[2 * N + box][(r % 3) * 3 + c % 3] = cell;
+                UNITS_OF_CELL[cell] = new int[]{r, N + c, 2 * N + box};
+            }
+        }
+    }
+
+    private final int lanes = SPECIES.length();
+    private final short[] cand = new short[CELLS * lanes];
+    private final short[] unitSolved = new short[3 * N * lanes];
+    private final Presolver presolver = new Presolver(N);
+
+    private long lockstepSolved = 0;
+    private long scalarFallbacks = 0;
+    private long unsolvable = 0;
+    private long propagationRounds = 0;
+
+    public int[][][] solveAll(int[][][] puzzles) {
+        return run(puzzles, true);
+    }
+
+    // Lockstep propagation only. Each result is the puzzle with every cell that singles fixed
+    // filled in (complete when propagation solved it), or null when it has no solution. Boards
+    // the lockstep path cannot load are returned unchanged. The caller finishes the incomplete
+    // ones with its own solver, e.g. a DLXSolver under a SolveBudget.
+    public int[][][] propagateAll(int[][][] puzzles) {
+        return run(puzzles, false);
+    }
+
+    private int[][][] run(int[][][] puzzles, boolean finish) {
+        int[][][] solutions = new int[puzzles.length][][];
+        for (int start = 0; start < puzzles.length; start += lanes) {
+            int count = Math.min(lanes, puzzles.length - start);
+            if (!load(puzzles, start, count)) {
+                for (int lane = 0; lane < count; lane++) {
+                    int[][] puzzle = puzzles[start + lane];
+                    solutions[start + lane] = finish ? solveScalar(puzzle) : puzzle;
+                }
+                continue;
+            }
+            propagateBlock();
+            for (int lane = 0; lane < count; lane++) {
+                solutions[start + lane] = finishLane(lane, finish);
+            }
+        }
+        return solutions;
+    }
+
+    // Returns false when a clue is out of range or the board is not 9x9; such blocks are solved
+    // lane by lane so the scalar path raises the usual IllegalArgumentException. Lanes past count
+    // are padding and load as empty boards.
+    private boolean load(int[][][] puzzles, int start, int count) {
+        for (int lane = 0; lane < lanes; lane++) {
+            int[][] board = lane < count ? puzzles[start + lane] : null;
+            if (lane < count && board == null) {
+                throw new IllegalArgumentException("Puzzle " + (start + lane) + " is null.");
+            }
+            if (board != null && board.length != N) return false;
+            for (int r = 0; r < N; r++) {
+                if (board != null && (board[r] == null || board[r].length != N)) return false;
+                for (int c = 0; c < N; c++) {
+                    int d = board == null ? 0 : board[r][c];
+                    if (d < 0 || d > N) return false;
+                    cand[(r * N + c) * lanes + lane] = d == 0 ? ALL : (short) (1 << (d - 1));
+                }
+            }
+        }
+        return true;
+    }
+
+    // One round removes every placed digit from its peers and collapses every hidden single, for
+    // all lanes at once; rounds repeat until no lane changes. A lane that reaches a contradiction
+    // (an empty cell, a digit placed twice or missing from a unit, or one cell being the only place
+    // for two digits) has all its candidates cleared, so it stops changing and finishes as null.
+    // Every round either shrinks some lane's candidates or ends the loop, so it terminates.
+    private void propagateBlock() {
+        VectorMask<Short> cleared = SPECIES.maskAll(false);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            propagationRounds++;
+            VectorMask<Short> dead = SPECIES.maskAll(false);
+
+            for (int u = 0; u < 3 * N; u++) {
+                ShortVector solved = ShortVector.zero(SPECIES);
+                ShortVector solvedTwice = ShortVector.zero(SPECIES);
+                for (int cell : UNITS[u]) {
+                    ShortVector v = ShortVector.fromArray(SPECIES, cand, cell * lanes);
+                    ShortVector single = v.blend(0, isSingle(v).not());
+                    solvedTwice = solvedTwice.or(solved.and(single));
+                    solved = solved.or(single);
+                }
+                solved.intoArray(unitSolved, u * lanes);
+                dead = dead.or(solvedTwice.compare(VectorOperators.NE, (short) 0));
+            }
+
+            for (int cell = 0; cell < CELLS; cell++) {
+                ShortVector v = ShortVector.fromArray(SPECIES, cand, cell * lanes);
+                int[] units = UNITS_OF_CELL[cell];
+                ShortVector placed = ShortVector.fromArray(SPECIES, unitSolved, units[0] * lanes)
+                        .or(ShortVector.fromArray(SPECIES, unitSolved, units[1] * lanes))
+                        .or(ShortVector.fromArray(SPECIES, unitSolved, units[2] * lanes));
+                ShortVector next = v.and(placed.not()).blend(v, isSingle(v));
+                dead = dead.or(next.compare(VectorOperators.EQ, (short) 0));
+                if (next.compare(VectorOperators.NE, v).anyTrue()) {
+                    next.intoArray(cand, cell * lanes);
+                    changed = true;
+                }
+            }
+
+            for (int[] unit : UNITS) {
+                ShortVector once = ShortVector.zero(SPECIES);
+                ShortVector twice = ShortVector.zero(SPECIES);
+                for (int cell : unit) {
+                    ShortVector v = ShortVector.fromArray(SPECIES, cand, cell * lanes);
+                    twice = twice.or(once.and(v));
+                    once = once.or(v);
+                }
+                dead = dead.or(once.compare(VectorOperators.NE, ALL));
+                ShortVector hidden = once.and(twice.not());
+                for (int cell : unit) {
+                    ShortVector v = ShortVector.fromArray(SPECIES, cand, cell * lanes);
+                    ShortVector only = v.and(hidden);
+                    dead = dead.or(only.and(only.sub((short) 1)).compare(VectorOperators.NE, (short) 0));
+                    VectorMask<Short> collapse = only.compare(VectorOperators.NE, (short) 0).andNot(isSingle(v));
+                    ShortVector next = v.blend(only, collapse);
+                    if (next.compare(VectorOperators.NE, v).anyTrue()) {
+                        next.intoArray(cand, cell * lanes);
+                        changed = true;
+                    }
+                }
+            }
+
+            VectorMask<Short> newlyDead = dead.andNot(cleared);
+            if (newlyDead.anyTrue()) {
+                for (int cell = 0; cell < CELLS; cell++) {
+                    ShortVector.fromArray(SPECIES, cand, cell * lanes).blend(0, newlyDead).intoArray(cand, cell * lanes);
+                }
+                cleared = cleared.or(newlyDead);
+                changed = true;
+            }
+        }
+    }
+
+    private VectorMask<Short> isSingle(ShortVector v) {
+        return v.and(v.sub((short) 1)).compare(VectorOperators.EQ, (short) 0)
+                .and(v.compare(VectorOperators.NE, (short) 0));
+    }
+
+    private int[][] finishLane(int lane, boolean finish) {
+        int[][] board = new int[N][N];
+        boolean complete = true;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int mask = cand[cell * lanes + lane];
+            if (mask == 0) {
+                unsolvable++;
+                return null;
+            }
+            if (Integer.bitCount(mask) == 1) {
+                board[cell / N][cell % N] = Integer.numberOfTrailingZeros(mask) + 1;
+            } else {
+                complete = false;
+            }
+        }
+
+        if (complete) {
+            for (int[] unit : UNITS) {
+                int seen = 0;
+                for (int cell : unit) seen |= 1 << (board[cell / N][cell % N] - 1);
+                if (seen != ALL) {
+                    unsolvable++;
+                    return null;
+                }
+            }
+            lockstepSolved++;
+            return board;
+        }
+        return finish ? solveScalar(board) : board;
+    }
+
+    private int[][] solveScalar(int[][] board) {
+        scalarFallbacks++;
+        Presolver.Result presolved = presolver.presolve(board);
+        if (presolved.contradiction) {
+            unsolvable++;
+            return null;
+        }
+        if (presolved.solved) return presolved.board;
+        int[][] solution = new DLXSolver(N, false).solve(presolved.board);
+        if (solution == null) unsolvable++;
+        return solution;
+    }
+
+    public int getLaneCount() {
+        return lanes;
+    }
+
+    public long getLockstepSolved() {
+        return lockstepSolved;
+    }
+
+    public long getScalarFallbacks() {
+        return scalarFallbacks;
+    }
+
+    public long getUnsolvable() {
+        return unsolvable;
+    }
+
+    public long getPropagationRounds() {
+        return propagationRounds;
+    }
+}
@@ -0,0 +1,462 @@
+package service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import implementations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ============================================
+ *       SolverService Class
+ * ============================================
+ * Used For: Serving the solvers over HTTP as a local sidecar. Every request runs on its own virtual
+ * thread; small 9x9 DLX requests are micro-batched onto a pool of long-lived workers that propagate
+ * each batch in lockstep with VectorBatchSolver and finish the rest with DLX, larger requests go
+ * through the shared ConcurrentSolver under a concurrency limit, and full queues are rejected
+ * with 503. Puzzles equivalent to one already solved are answered from a SolutionCache before
+ * any of that.
+ *   POST /solve?solver=DLX&timeoutMs=2000   body: puzzle as digits ("530070...") or space-separated numbers
+ *        solver=Auto lets the SolverRouter pick the solver from the puzzle's features
+ *        timeoutMs must be between 1 and the server maximum, and bodies over 64 KiB get 413
+ *   GET  /metrics                           latency and throughput counters
+ * Per-solver latency histograms are recorded in SolverMetrics and show up over JMX; main() also
+ * keeps results/service_metrics_snapshot.csv up to date.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public final class SolverService {
+    private static final int BATCHED_SIZE = 9;
+    // VectorBatchSolver needs --add-modules jdk.incubator.vector; without it (e.g. under
+    // mvn exec:java) batches are solved one job at a time by DLX alone.
+    private static final boolean LOCKSTEP_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    // A 64x64 puzzle written as space-separated numbers is about 12 KiB.
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final BlockingQueue<Job> batchQueue;
+    private final Semaphore directPermits;
+    private final List<Thread> batchWorkers = new ArrayList<>();
+    private final int maxBatchSize;
+    private final long maxBatchWaitMicros;
+    private final long defaultTimeoutMillis;
+    private volatile long maxTimeoutMillis;
+    private final ConcurrentSolver solvers = new ConcurrentSolver();
+    private final SolutionCache cache = new SolutionCache(4096);
+    private final SolverMetrics metrics = SolverMetrics.global();
+    private volatile SolverRouter router = new SolverRouter();
+    private volatile boolean running = true;
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder solved = new LongAdder();
+    private final LongAdder unsolved = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder badRequests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedJobs = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    // The deadline is fixed when the request is accepted, so time spent queued counts against it.
+    private static class Job {
+        final int[][] board;
+        final long deadlineNanos;
+        final CompletableFuture<int[][]> result = new CompletableFuture<>();
+
+        Job(int[][] board, long timeoutMillis) {
+            this.board = board;
+            this.deadlineNanos = System.nanoTime() + timeoutMillis * 1_000_000;
+        }
+
+        long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+    }
+
+    public SolverService(int port, int queueCapacity, int workers, int maxBatchSize, long maxBatchWaitMicros,
+                         long defaultTimeoutMillis) throws IOException {
+        this.batchQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.directPermits = new Semaphore(workers);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitMicros = maxBatchWaitMicros;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.maxTimeoutMillis = Math.max(defaultTimeoutMillis, 60_000);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(requestExecutor);
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/metrics", this::handleMetrics);
+
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::runBatchWorker, "dlx-batch-" + i);
+            worker.setDaemon(true);
+            batchWorkers.add(worker);
+        }
+    }
+
+    public void start() {
+        batchWorkers.forEach(Thread::start);
+        server.start();
+    }
+
+    public void stop() {
+        running = false;
+        server.stop(0);
+        batchWorkers.forEach(Thread::interrupt);
+        requestExecutor.shutdownNow();
+        Job job;
+        while ((job = batchQueue.poll()) != null) {
+            job.result.completeExceptionally(new CancellationException("Service stopped"));
+        }
+    }
+
+    public void setRouter(SolverRouter router) {
+        this.router = router;
+    }
+
+    // A solve never holds a permit or batch worker for longer than this, whatever the client asks.
+    public void setMaxTimeoutMillis(long maxTimeoutMillis) {
+        if (maxTimeoutMillis <= 0) throw new IllegalArgumentException("Maximum timeout must be positive.");
+        this.maxTimeoutMillis = maxTimeoutMillis;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "Use POST with the puzzle as the request body\n");
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String solverName = query.getOrDefault("solver", "DLX");
+            byte[] bytes;
+            try (InputStream body = exchange.getRequestBody()) {
+                // Read before any early response so the connection is not reset under the client.
+                bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+            }
+            if (bytes.length > MAX_BODY_BYTES) {
+                badRequests.increment();
+                respond(exchange, 413, "Puzzle must be at most " + MAX_BODY_BYTES + " bytes\n");
+                return;
+            }
+
+            long timeoutMillis = Long.parseLong(query.getOrDefault("timeoutMs", String.valueOf(defaultTimeoutMillis)));
+            // SolveBudget reads a timeout of 0 or less as "no deadline", which a client must not get.
+            if (timeoutMillis <= 0 || timeoutMillis > maxTimeoutMillis) {
+                throw new IllegalArgumentException("timeoutMs must be between 1 and " + maxTimeoutMillis
+                        + ". Got: " + timeoutMillis);
+            }
+            int[][] board = parseBoard(new String(bytes, StandardCharsets.UTF_8));
+            SolutionCache.Lookup cached = cache.lookup(board);
+            if (cached.isHit()) {
+                solved.increment();
+                respond(exchange, 200, formatBoard(cached.solution) + "\n");
+                return;
+            }
+            SolverRouter.Features features = null;
+            if (solverName.equals("Auto")) {
+                features = SolverRouter.Features.of(board);
+                solverName = router.route(features);
+            }
+
+            int[][] solution;
+            if (board.length == BATCHED_SIZE && solverName.equals("DLX")) {
+                Job job = new Job(board, timeoutMillis);
+                if (!batchQueue.offer(job)) {
+                    rejected.increment();
+                    respond(exchange, 503, "Queue full, retry later\n");
+                    return;
+                }
+                accepted.increment();
+                try {
+                    solution = job.result.get(Math.max(job.remainingNanos(), 0), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // Still queued or mid-solve: the worker skips a job that is already done.
+                    job.result.cancel(false);
+                    timedOut.increment();
+                    respond(exchange, 504, "Solve stopped: timed out after " + timeoutMillis + " ms\n");
+                    return;
+                }
+            } else {
+                if (!directPermits.tryAcquire()) {
+                    rejected.increment();
+                    respond(exchange, 503, "Too many concurrent solves, retry later\n");
+                    return;
+                }
+                accepted.increment();
+                SolveOutcome outcome;
+                try {
+                    outcome = solveDirect(solverName, board, timeoutMillis);
+                } finally {
+                    directPermits.release();
+                }
+                // Only direct solves feed the router: batched latencies include time spent queued.
+                if (features != null) {
+                    router.observe(features, solverName, outcome.getElapsedMicros() / 1_000.0,
+                            outcome.getStatus() != SolveOutcome.Status.EXHAUSTED);
+                }
+                if (outcome.getStatus() == SolveOutcome.Status.EXHAUSTED) {
+                    timedOut.increment();
+                    respond(exchange, 504, "Solve stopped: " + outcome.getExhaustedReason() + "\n");
+                    return;
+                }
+                solution = outcome.getSolution();
+            }
+
+            if (solution == null) {
+                unsolved.increment();
+                respond(exchange, 422, "No solution\n");
+            } else {
+                cache.store(cached, solution);
+                solved.increment();
+                respond(exchange, 200, formatBoard(solution) + "\n");
+            }
+        } catch (IllegalArgumentException e) {
+            badRequests.increment();
+            respond(exchange, 400, e.getMessage() + "\n");
+        } catch (SolveBudget.ExhaustedException e) {
+            timedOut.increment();
+            respond(exchange, 504, e.getMessage() + "\n");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SolveBudget.ExhaustedException) {
+                timedOut.increment();
+                respond(exchange, 504, e.getCause().getMessage() + "\n");
+            } else {
+                respond(exchange, 500, String.valueOf(e.getCause().getMessage()) + "\n");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "Interrupted\n");
+        } finally {
+            recordLatency(System.nanoTime() - start);
+            exchange.close();
+        }
+    }
+
+    private SolveOutcome solveDirect(String solverName, int[][] board, long timeoutMillis) {
+        return solvers.solve(solverName, board, timeoutMillis);
+    }
+
+    // Each batch is first propagated in lockstep by the VectorBatchSolver, which settles most 9x9
+    // puzzles on its own; only the boards it leaves incomplete reach DLX, under what is left of
+    // their job's budget.
+    private void runBatchWorker() {
+        DLXSolver solver = new DLXSolver(BATCHED_SIZE, false);
+        VectorBatchSolver lockstep = LOCKSTEP_AVAILABLE ? new VectorBatchSolver() : null;
+        List<Job> batch = new ArrayList<>(maxBatchSize);
+        List<Job> live = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Job first = batchQueue.take();
+                batch.add(first);
+                long waitUntil = System.nanoTime() + maxBatchWaitMicros * 1_000;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = waitUntil - System.nanoTime();
+                    if (batchQueue.drainTo(batch, maxBatchSize - batch.size()) > 0) continue;
+                    if (remaining <= 0) break;
+                    Job next = batchQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                batches.increment();
+                batchedJobs.add(batch.size());
+                // The handler already answered 504 for jobs whose deadline passed in the queue.
+                for (Job job : batch) {
+                    if (job.result.isDone() || job.remainingNanos() <= 0) {
+                        job.result.cancel(false);
+                    } else {
+                        live.add(job);
+                    }
+                }
+                if (!live.isEmpty()) solveBatch(solver, lockstep, live);
+                batch.clear();
+                live.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void solveBatch(DLXSolver solver, VectorBatchSolver lockstep, List<Job> jobs) {
+        int[][][] boards = new int[jobs.size()][][];
+        for (int i = 0; i < boards.length; i++) boards[i] = jobs.get(i).board;
+        long blockStart = System.nanoTime();
+        if (lockstep != null) boards = lockstep.propagateAll(boards);
+        // Each job's latency includes its share of the lockstep pass.
+        long sharedNanos = (System.nanoTime() - blockStart) / boards.length;
+
+        for (int i = 0; i < boards.length; i++) {
+            Job job = jobs.get(i);
+            int[][] board = boards[i];
+            long start = System.nanoTime();
+            try {
+                int[][] result = board;
+                if (board != null && !isComplete(board)) {
+                    solver.setBudget(SolveBudget.ofMillis(Math.max(job.remainingNanos() / 1_000_000, 1)));
+                    result = solver.solve(board);
+                }
+                metrics.record("DLX", BATCHED_SIZE, sharedNanos + System.nanoTime() - start,
+                        result != null ? SolverMetrics.Outcome.SOLVED : SolverMetrics.Outcome.UNSOLVED);
+                job.result.complete(result);
+            } catch (SolveBudget.ExhaustedException e) {
+                metrics.record("DLX", BATCHED_SIZE, sharedNanos + System.nanoTime() - start,
+                        SolverMetrics.Outcome.TIMEOUT);
+                job.result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                metrics.record("DLX", BATCHED_SIZE, sharedNanos + System.nanoTime() - start,
+                        SolverMetrics.Outcome.FAILED);
+                job.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static boolean isComplete(int[][] board) {
+        for (int[] row : board) {
+            for (int cell : row) {
+                if (cell == 0) return false;
+            }
+        }
+        return true;
+    }
+
+    private void recordLatency(long nanos) {
+        totalLatencyNanos.add(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange, 200, metricsText());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public String metricsText() {
+        long completed = solved.sum() + unsolved.sum() + timedOut.sum();
+        double uptimeSeconds = (System.nanoTime() - startNanos) / 1e9;
+        long requests = completed + rejected.sum() + badRequests.sum();
+        StringBuilder sb = new StringBuilder();
+        sb.append("accepted ").append(accepted.sum()).append("\n");
+        sb.append("rejected ").append(rejected.sum()).append("\n");
+        sb.append("solved ").append(solved.sum()).append("\n");
+        sb.append("unsolved ").append(unsolved.sum()).append("\n");
+        sb.append("timed_out ").append(timedOut.sum()).append("\n");
+        sb.append("bad_requests ").append(badRequests.sum()).append("\n");
+        sb.append("cache_hits ").append(cache.getHits()).append("\n");
+        sb.append("cache_misses ").append(cache.getMisses()).append("\n");
+        sb.append("queue_depth ").append(batchQueue.size()).append("\n");
+        sb.append("batches ").append(batches.sum()).append("\n");
+        sb.append("avg_batch_size ").append(String.format("%.2f",
+                batches.sum() == 0 ? 0.0 : batchedJobs.sum() / (double) batches.sum())).append("\n");
+        sb.append("avg_latency_us ").append(requests == 0 ? 0 : totalLatencyNanos.sum() / requests / 1_000).append("\n");
+        sb.append("max_latency_us ").append(maxLatencyNanos.get() / 1_000).append("\n");
+        sb.append("throughput_per_s ").append(String.format("%.2f", completed / Math.max(uptimeSeconds, 1e-9))).append("\n");
+        return sb.toString();
+    }
+
+    public static int[][] parseBoard(String text) {
+        String trimmed = text.trim();
+        int[] values;
+        if (trimmed.matches("[0-9.]+")) {
+            values = new int[trimmed.length()];
+            for (int i = 0; i < trimmed.length(); i++) {
+                char ch = trimmed.charAt(i);
+                values[i] = ch == '.' ? 0 : ch - '0';
+            }
+        } else {
+            String[] parts = trimmed.split("[\\s,]+");
+            values = new int[parts.length];
+            try {
+                for (int i = 0; i < parts.length; i++) values[i] = Integer.parseInt(parts[i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Puzzle must contain only numbers");
+            }
+        }
+
+        int size = (int) Math.sqrt(values.length);
+        int box = (int) Math.sqrt(size);
+        if (size * size != values.length || box * box != size || size == 0) {
+            throw new IllegalArgumentException("Puzzle must have N*N cells with N a perfect square. Got: " + values.length);
+        }
+        int[][] board = new int[size][size];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < 0 || values[i] > size) {
+                throw new IllegalArgumentException("Cell values must be between 0 and " + size);
+            }
+            board[i / size][i % size] = values[i];
+        }
+        return board;
+    }
+
+    public static String formatBoard(int[][] board) {
+        StringBuilder sb = new StringBuilder();
+        boolean compact = board.length <= 9;
+        for (int[] row : board) {
+            for (int cell : row) {
+                if (!compact && sb.length() > 0) sb.append(' ');
+                sb.append(cell);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) return query;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) query.put(pair.substring(0, eq), pair.substring(eq + 1));
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int workers = Runtime.getRuntime().availableProcessors();
+        SolverService service = new SolverService(port, 4096, workers, 32, 500, 10_000);
+        service.setRouter(SolverRouter.fromResults(Paths.get("results")));
+        service.start();
+        AutoCloseable snapshots = SolverMetrics.global().startSnapshots(
+                Paths.get("results/service_metrics_snapshot.csv"), 5_000);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            service.stop();
+            try {
+                snapshots.close();
+            } catch (Exception e) {
+                System.out.println("Error writing metrics snapshot: " + e.getMessage());
+            }
+        }));
+        System.out.println("Solver service listening on http://127.0.0.1:" + service.getPort() + " with " + workers + " workers");
+    }
+}
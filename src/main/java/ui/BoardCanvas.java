@@ -0,0 +1,140 @@
+package ui;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import javafx.util.Duration;
+
+/*
+ * ============================================
+ *       BoardCanvas Class
+ * ============================================
+ * Used For: Drawing large boards (25x25 and up) on a single Canvas instead of one TextField per
+ * cell. The grid lines are drawn once; showStep() compares the step with what is on screen and
+ * repaints only the cells that changed, so a step costs one pass over the values plus a fill and
+ * a glyph per changed cell. Changed cells are highlighted like the TextField grid does (light
+ * blue when set, orange when cleared) and one shared fade timer clears the highlights later.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+class BoardCanvas extends Canvas {
+    private static final long HIGHLIGHT_MILLIS = 1500;
+    private static final double THIN_LINE = 1;
+    private static final double THICK_LINE = 2;
+
+    private final int size;
+    private final int boxSize;
+    private final double cellSize;
+    private final int[][] original;
+    private final int[][] shown;
+    private final long[] highlightUntil;
+    private final Font clueFont;
+    private final Font valueFont;
+    private final Timeline fadeTimer;
+    private int highlighted;
+
+    BoardCanvas(int[][] original, double cellSize) {
+        super(original.length * cellSize + THICK_LINE, original.length * cellSize + THICK_LINE);
+        this.size = original.length;
+        int box = (int) Math.sqrt(size);
+        this.boxSize = box * box == size ? box : 3;
+        this.cellSize = cellSize;
+        this.original = original;
+        this.shown = new int[size][size];
+        this.highlightUntil = new long[size * size];
+        double fontSize = Math.max(8, cellSize * 0.45);
+        this.clueFont = Font.font("System", FontWeight.BOLD, fontSize);
+        this.valueFont = Font.font("System", FontWeight.NORMAL, fontSize);
+        this.fadeTimer = new Timeline(new KeyFrame(Duration.millis(200), e -> fadeHighlights()));
+        this.fadeTimer.setCycleCount(Timeline.INDEFINITE);
+
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+    }
+
+    // Full repaint without highlights, used when a puzzle is loaded or a solve finishes.
+    void show(int[][] board) {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                shown[row][col] = board[row][col];
+                highlightUntil[row * size + col] = 0;
+                paintCell(row, col, Color.WHITE);
+            }
+        }
+        highlighted = 0;
+        fadeTimer.stop();
+        paintGridLines(gc);
+    }
+
+    // Repaints only the cells whose value differs from what is on screen; returns how many did.
+    int showStep(int[][] step) {
+        long until = System.currentTimeMillis() + HIGHLIGHT_MILLIS;
+        int dirty = 0;
+        for (int row = 0; row < size; row++) {
+            int[] stepRow = step[row];
+            int[] shownRow = shown[row];
+            for (int col = 0; col < size; col++) {
+                if (stepRow[col] == shownRow[col]) continue;
+                boolean cleared = stepRow[col] == 0;
+                shownRow[col] = stepRow[col];
+                int index = row * size + col;
+                if (highlightUntil[index] == 0) highlighted++;
+                highlightUntil[index] = until;
+                paintCell(row, col, cleared ? Color.ORANGE : Color.LIGHTBLUE);
+                dirty++;
+            }
+        }
+        if (highlighted > 0 && fadeTimer.getStatus() != Timeline.Status.RUNNING) fadeTimer.play();
+        return dirty;
+    }
+
+    private void fadeHighlights() {
+        long now = System.currentTimeMillis();
+        for (int index = 0; index < highlightUntil.length; index++) {
+            if (highlightUntil[index] != 0 && highlightUntil[index] <= now) {
+                highlightUntil[index] = 0;
+                highlighted--;
+                paintCell(index / size, index % size, Color.WHITE);
+            }
+        }
+        if (highlighted == 0) fadeTimer.stop();
+    }
+
+    // Paints inside the grid lines so they never need redrawing.
+    private void paintCell(int row, int col, Color background) {
+        GraphicsContext gc = getGraphicsContext2D();
+        double x = THICK_LINE / 2 + col * cellSize;
+        double y = THICK_LINE / 2 + row * cellSize;
+        double inset = THICK_LINE / 2 + 0.5;
+        gc.setFill(background);
+        gc.fillRect(x + inset, y + inset, cellSize - 2 * inset, cellSize - 2 * inset);
+        int value = shown[row][col];
+        if (value != 0) {
+            gc.setFont(original[row][col] != 0 ? clueFont : valueFont);
+            gc.setFill(Color.BLACK);
+            gc.fillText(String.valueOf(value), x + cellSize / 2, y + cellSize / 2);
+        }
+    }
+
+    private void paintGridLines(GraphicsContext gc) {
+        gc.setStroke(Color.BLACK);
+        double origin = THICK_LINE / 2;
+        double end = origin + size * cellSize;
+        for (int i = 0; i <= size; i++) {
+            double offset = origin + i * cellSize;
+            gc.setLineWidth(i % boxSize == 0 ? THICK_LINE : THIN_LINE);
+            gc.strokeLine(offset, origin, offset, end);
+            gc.strokeLine(origin, offset, end, offset);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ui;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/*
+ * ============================================
+ *       StepPlayer Class
+ * ============================================
+ * Used For: Playing back recorded solver steps without building one KeyFrame per step. On every
+ * pulse the player works out which step is due at the chosen delay and shows only that one, so
+ * when a pulse covers several steps (short delays, slow frames) the ones in between are skipped
+ * instead of queued. Seeking just moves the index, since the steps are in a random-access list.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+class StepPlayer extends AnimationTimer {
+    private final List<int[][]> steps;
+    private final IntConsumer onStep;
+    private final Runnable onFinished;
+    private double millisPerStep;
+    private int index;
+    private int anchorIndex;
+    private long anchorNanos = -1;
+    private boolean playing;
+
+    StepPlayer(List<int[][]> steps, double millisPerStep, IntConsumer onStep, Runnable onFinished) {
+        this.steps = steps;
+        this.millisPerStep = millisPerStep;
+        this.onStep = onStep;
+        this.onFinished = onFinished;
+    }
+
+    @Override
+    public void handle(long now) {
+        // The first pulse after play, a seek or a speed change only sets the time origin.
+        if (anchorNanos < 0) {
+            anchorNanos = now;
+            anchorIndex = index;
+            return;
+        }
+        long due = anchorIndex + (long) ((now - anchorNanos) / (millisPerStep * 1_000_000));
+        if (due <= index) return;
+        index = (int) Math.min(due, steps.size() - 1);
+        onStep.accept(index);
+        if (index == steps.size() - 1) {
+            pause();
+            onFinished.run();
+        }
+    }
+
+    void play() {
+        if (playing) return;
+        if (index >= steps.size() - 1) {
+            onFinished.run();
+            return;
+        }
+        playing = true;
+        anchorNanos = -1;
+        start();
+    }
+
+    void pause() {
+        playing = false;
+        stop();
+    }
+
+    boolean isPlaying() {
+        return playing;
+    }
+
+    void seek(int target) {
+        index = Math.max(0, Math.min(target, steps.size() - 1));
+        anchorNanos = -1;
+        onStep.accept(index);
+    }
+
+    // Keeps the current position and plays on from it at the new delay.
+    void setMillisPerStep(double millisPerStep) {
+        this.millisPerStep = millisPerStep;
+        anchorNanos = -1;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int size() {
+        return steps.size();
+    }
+
+    int[][] getStep(int i) {
+        return steps.get(i);
+    }
+}
@@ -10,13 +10,15 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.geometry.Insets;
 import javafx.stage.Stage;
-import javafx.scene.Node;
 import javafx.util.Duration;
 import datasets.PuzzleBank;
 import implementations.*;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 
@@ -31,16 +33,24 @@ import java.lang.management.MemoryMXBean;
 
 public class SudokuSolverUI extends Application {
 
+    // From this size up boards are drawn on a BoardCanvas rather than as a grid of TextFields.
+    private static final int CANVAS_MIN_SIZE = 25;
+    private static final long PROGRESS_INTERVAL_MILLIS = 100;
+
     private int[][] currentPuzzle;
     private int[][] originalPuzzle;
     private int[][] previousStep;
     private GridPane sudokuGrid = new GridPane();
+    private TextField[][] cells;
+    private BoardCanvas boardCanvas;
     private boolean visualizeSolvingSteps = false;
     private Label statusLabel = new Label("Status: Ready");
     private List<int[][]> solvingSteps;
-    private Timeline animationTimeline;
+    private StepPlayer stepPlayer;
+    private String playbackSolverType;
     private double animationSpeed = 1000;
-    private int currentStepIndex;
+    private Slider positionSlider = new Slider(0, 1, 0);
+    private boolean updatingPosition;
     private ScrollPane gridScrollPane = new ScrollPane();
 
     private long initStartTime;
@@ -53,6 +63,18 @@ public class SudokuSolverUI extends Application {
     private long peakMemoryUsage = 0;
     private boolean monitoring = false;
 
+    // One solve at a time runs here; starting another or pressing Cancel stops the current one.
+    private final ExecutorService solvingExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "ui-solver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Task<Void> solvingTask;
+    private SolveBudget solvingBudget;
+    private Button cancelBtn = new Button("Cancel");
+    private Label progressLabel = new Label();
+    private final AtomicReference<String> pendingProgress = new AtomicReference<>();
+
     public long getUsedMemory() {
         try {
             MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
@@ -93,6 +115,12 @@ public class SudokuSolverUI extends Application {
         launch(args);
     }
 
+    @Override
+    public void stop() {
+        cancelSolving();
+        solvingExecutor.shutdownNow();
+    }
+
     @Override
     public void start(Stage primaryStage) {
         primaryStage.setTitle("Sudoku Solver");
@@ -173,7 +201,10 @@ public class SudokuSolverUI extends Application {
         dpllBtn.setOnAction(e -> solveWithDPLLSAT());
         dlxBtn.setOnAction(e -> solveWithDLX());
 
-        solverButtons.getChildren().addAll(backtrackingBtn, constraintBtn, dpllBtn, dlxBtn);
+        cancelBtn.setDisable(true);
+        cancelBtn.setOnAction(e -> cancelSolving());
+
+        solverButtons.getChildren().addAll(backtrackingBtn, constraintBtn, dpllBtn, dlxBtn, cancelBtn, progressLabel);
         return solverButtons;
     }
 
@@ -185,9 +216,12 @@ public class SudokuSolverUI extends Application {
         Button prevBtn = new Button("Previous");
         Button nextBtn = new Button("Next");
         Label speedLabel = new Label("Speed:");
-        Slider speedSlider = new Slider(500, 1500, 1000);
+        // Milliseconds per step; below a frame (~16 ms) the player skips steps to keep up.
+        Slider speedSlider = new Slider(1, 1500, 1000);
         speedSlider.setShowTickLabels(true);
-        speedSlider.setMajorTickUnit(250);
+        speedSlider.setMajorTickUnit(500);
+        Label positionLabel = new Label("Step:");
+        positionSlider.setPrefWidth(200);
 
         pauseBtn.setOnAction(e -> pauseAnimation());
         resumeBtn.setOnAction(e -> resumeAnimation());
@@ -195,10 +229,17 @@ public class SudokuSolverUI extends Application {
         nextBtn.setOnAction(e -> showNextStep());
         speedSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
             animationSpeed = newVal.doubleValue();
-            restartAnimationIfRunning();
+            applyAnimationSpeed();
+        });
+        positionSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (!updatingPosition && stepPlayer != null) {
+                stepPlayer.pause();
+                stepPlayer.seek((int) Math.round(newVal.doubleValue()));
+            }
         });
 
-        animationControls.getChildren().addAll(pauseBtn, resumeBtn, prevBtn, nextBtn, speedLabel, speedSlider);
+        animationControls.getChildren().addAll(pauseBtn, resumeBtn, prevBtn, nextBtn, speedLabel, speedSlider,
+                positionLabel, positionSlider);
         return animationControls;
     }
 
@@ -292,6 +333,17 @@ public class SudokuSolverUI extends Application {
         double maxCellSize = 60;
         double cellSize = Math.min(maxCellSize, 800.0 / size);
 
+        if (size >= CANVAS_MIN_SIZE) {
+            cells = null;
+            boardCanvas = new BoardCanvas(originalPuzzle, cellSize);
+            boardCanvas.show(puzzle);
+            gridScrollPane.setContent(boardCanvas);
+            return;
+        }
+        boardCanvas = null;
+        cells = new TextField[size][size];
+        gridScrollPane.setContent(sudokuGrid);
+
         int subgridSize = (int) Math.sqrt(size);
         if (subgridSize * subgridSize != size) {
             subgridSize = 3;
@@ -327,6 +379,7 @@ public class SudokuSolverUI extends Application {
                 GridPane.setColumnIndex(cell, col);
                 GridPane.setRowIndex(cell, row);
                 sudokuGrid.add(cell, col, row);
+                cells[row][col] = cell;
             }
         }
     }
@@ -382,29 +435,68 @@ public class SudokuSolverUI extends Application {
             return;
         }
 
+        cancelSolving();
         statusLabel.setText("Solving with " + solverType + "...");
+        progressLabel.setText("");
 
+        // Backtracking keeps its two-minute limit; the other solvers run until done or cancelled.
+        SolveBudget budget = solverType.equals("Backtracking") ? SolveBudget.ofMillis(120_000) : SolveBudget.unlimited();
+        boolean visualize = visualizeSolvingSteps;
         Task<Void> task = new Task<>() {
             @Override
             protected Void call() {
-                long startSolvingTime = System.nanoTime();
                 try {
-                    if (visualizeSolvingSteps) {
-                        visualizeSteps(solverType);
+                    if (visualize) {
+                        visualizeSteps(solverType, budget);
                     } else {
-                        solveAndDisplayPuzzle(solverType);
+                        solveAndDisplayPuzzle(solverType, budget);
                     }
-                    solvingTime = (System.nanoTime() - startSolvingTime) / 1_000;
                 } catch (Exception ex) {
                     Platform.runLater(() -> showErrorPopup("An error occurred:\n" + ex.getMessage()));
                 }
                 return null;
             }
         };
+        task.setOnSucceeded(e -> finishSolving(task));
+        task.setOnFailed(e -> finishSolving(task));
+        task.setOnCancelled(e -> finishSolving(task));
+
+        solvingTask = task;
+        solvingBudget = budget;
+        cancelBtn.setDisable(false);
+        solvingExecutor.submit(task);
+    }
 
-        Thread solvingThread = new Thread(task);
-        solvingThread.setDaemon(true);
-        solvingThread.start();
+    // Cooperative: the solver notices the cancelled budget (or the interrupt) at its next check,
+    // a few hundred nodes later, and unwinds with a CANCELLED ExhaustedException.
+    private void cancelSolving() {
+        if (solvingTask == null) return;
+        solvingBudget.cancel();
+        solvingTask.cancel(true);
+    }
+
+    private void finishSolving(Task<Void> task) {
+        if (solvingTask != task) return;
+        solvingTask = null;
+        solvingBudget = null;
+        cancelBtn.setDisable(true);
+    }
+
+    private void watchProgress(ReusableSolver solver, SolveBudget budget) {
+        solver.setBudget(budget);
+        budget.setProgressListener((nodes, elapsedNanos) -> publishProgress(nodes, solver.getPropagationDepth(),
+                elapsedNanos), PROGRESS_INTERVAL_MILLIS);
+    }
+
+    // Called on the solver thread. Only the newest report is kept, and a runLater is queued only
+    // when the FX thread has taken the previous one, so a slow UI never builds up a backlog.
+    private void publishProgress(long nodes, int depth, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        String text = String.format("Nodes: %,d (%,.0f/s) | Depth: %d | Elapsed: %.1fs",
+                nodes, seconds > 0 ? nodes / seconds : 0, depth, seconds);
+        if (pendingProgress.getAndSet(text) == null) {
+            Platform.runLater(() -> progressLabel.setText(pendingProgress.getAndSet(null)));
+        }
     }
 
     private void showErrorPopup(String message) {
@@ -416,25 +508,35 @@ public class SudokuSolverUI extends Application {
     }
 
 
-    private void solveAndDisplayPuzzle(String solverType) {
+    private void solveAndDisplayPuzzle(String solverType, SolveBudget budget) {
         int[][] solvedPuzzle = copyPuzzle(currentPuzzle);
         long peakMemory = 0;
+        // "Constraint Propagation" -> "ConstraintPropagation", matching the solver names in SolverMetrics.
+        String metricsName = solverType.replaceAll("[^A-Za-z]", "");
+        SolverMetrics.Outcome outcome = SolverMetrics.Outcome.FAILED;
+        long solveStart = System.nanoTime();
 
         try {
             if (solverType.equals("Backtracking")) {
                 BackTrackingSolver solver = new BackTrackingSolver(solvedPuzzle.length, false);
-                solver.setTimeoutMillis(120_000);
+                watchProgress(solver, budget);
                 solvedPuzzle = solver.solve(solvedPuzzle);
             } else if (solverType.equals("Constraint Propagation")) {
                 ConstraintPropagationSolver solver = new ConstraintPropagationSolver(solvedPuzzle.length, false);
+                watchProgress(solver, budget);
                 solvedPuzzle = solver.solve(solvedPuzzle);
             } else if (solverType.equals("DPLL-SAT")) {
                 DPLLSATSolver solver = new DPLLSATSolver(solvedPuzzle.length, false);
+                watchProgress(solver, budget);
                 solvedPuzzle = solver.solve(solvedPuzzle);
             } else if (solverType.equals("DLX")) {
                 DLXSolver solver = new DLXSolver(solvedPuzzle.length, false);
+                watchProgress(solver, budget);
                 solvedPuzzle = solver.solve(solvedPuzzle);
             }
+            outcome = solvedPuzzle != null ? SolverMetrics.Outcome.SOLVED : SolverMetrics.Outcome.UNSOLVED;
+            solvingTime = (System.nanoTime() - solveStart) / 1_000;
+            long nodes = budget.getNodes();
 
             peakMemory = getPeakMemoryUsage();
             int[][] finalSolved = solvedPuzzle;
@@ -448,80 +550,92 @@ public class SudokuSolverUI extends Application {
                             " (Memory: " + finalPeakMemory + " bytes)" +
                             " | Hint Count: " + hintCount +
                             " hints | Solving time: " + solvingTime + "μs | Init Time: " + initTime + "μs");
+                    progressLabel.setText(String.format("Nodes: %,d", nodes));
                 } else {
                     statusLabel.setText("Failed to solve with " + solverType);
                 }
             });
+        } catch (SolveBudget.ExhaustedException e) {
+            if (e.getReason() == SolveBudget.Reason.CANCELLED) {
+                // A solve the user abandoned says nothing about solver latency.
+                outcome = null;
+                Platform.runLater(() -> statusLabel.setText(solverType + " cancelled after "
+                        + String.format("%,d", e.getNodes()) + " nodes (" + e.getElapsedMillis() + " ms)"));
+            } else {
+                outcome = SolverMetrics.Outcome.TIMEOUT;
+                Platform.runLater(() -> showErrorPopup("An error occurred during solving: " + e.getMessage()));
+            }
         } catch (Exception e) {
             Platform.runLater(() -> showErrorPopup("An error occurred during solving: " + e.getMessage()));
+        } finally {
+            if (outcome != null) {
+                SolverMetrics.global().record(metricsName, currentPuzzle.length, System.nanoTime() - solveStart, outcome);
+            }
         }
     }
 
 
-    private void visualizeSteps(String solverType) {
+    private void visualizeSteps(String solverType, SolveBudget budget) {
         int[][] puzzleToSolve = copyPuzzle(currentPuzzle);
-        if (solverType.equals("Backtracking")) {
-            BackTrackingSolver solver = new BackTrackingSolver(puzzleToSolve.length, true);
-            solver.solve(puzzleToSolve);
-            solvingSteps = solver.getSteps();
-        } else if (solverType.equals("Constraint Propagation")) {
-            ConstraintPropagationSolver solver = new ConstraintPropagationSolver(puzzleToSolve.length, true);
-            solver.solve(puzzleToSolve);
-            solvingSteps = solver.getSteps();
-        } else if (solverType.equals("DPLL-SAT")) {
-            DPLLSATSolver solver = new DPLLSATSolver(puzzleToSolve.length, true);
-            solver.solve(puzzleToSolve);
-            solvingSteps = solver.getSteps();
-        } else if (solverType.equals("DLX")) {
-            DLXSolver solver = new DLXSolver(puzzleToSolve.length, true);
-            solver.solve(puzzleToSolve);
-            solvingSteps = solver.getSteps();
+        try {
+            if (solverType.equals("Backtracking")) {
+                BackTrackingSolver solver = new BackTrackingSolver(puzzleToSolve.length, true);
+                watchProgress(solver, budget);
+                solver.solve(puzzleToSolve);
+                solvingSteps = solver.getSteps();
+            } else if (solverType.equals("Constraint Propagation")) {
+                ConstraintPropagationSolver solver = new ConstraintPropagationSolver(puzzleToSolve.length, true);
+                watchProgress(solver, budget);
+                solver.solve(puzzleToSolve);
+                solvingSteps = solver.getSteps();
+            } else if (solverType.equals("DPLL-SAT")) {
+                DPLLSATSolver solver = new DPLLSATSolver(puzzleToSolve.length, true);
+                watchProgress(solver, budget);
+                solver.solve(puzzleToSolve);
+                solvingSteps = solver.getSteps();
+            } else if (solverType.equals("DLX")) {
+                DLXSolver solver = new DLXSolver(puzzleToSolve.length, true);
+                watchProgress(solver, budget);
+                solver.solve(puzzleToSolve);
+                solvingSteps = solver.getSteps();
+            }
+        } catch (SolveBudget.ExhaustedException e) {
+            Platform.runLater(() -> statusLabel.setText(solverType + " stopped before any steps could be shown: "
+                    + e.getMessage()));
+            return;
         }
 
         if (solvingSteps == null || solvingSteps.isEmpty()) {
-            statusLabel.setText("No steps available for visualization");
+            Platform.runLater(() -> statusLabel.setText("No steps available for visualization"));
             return;
         }
 
         List<int[][]> filteredSteps = filterPresetSteps(solvingSteps);
 
         if (filteredSteps.isEmpty()) {
-            statusLabel.setText("Error: No valid steps after filtering");
+            Platform.runLater(() -> statusLabel.setText("Error: No valid steps after filtering"));
             return;
         }
 
         solvingSteps = filteredSteps;
-        visualizeStepsWithAnimation(filteredSteps, solverType);
+        Platform.runLater(() -> visualizeStepsWithAnimation(filteredSteps, solverType));
     }
 
+    // Skips the steps recorded before every clue is on the board. Everything from the first
+    // complete step on is kept, so the result is a view of the recorded list rather than a copy.
     private List<int[][]> filterPresetSteps(List<int[][]> steps) {
-        List<int[][]> filteredSteps = new ArrayList<>();
-        boolean foundCompletePreset = false;
-
         List<int[]> presetPositions = new ArrayList<>();
-        int presetCount = 0;
         for (int i = 0; i < originalPuzzle.length; i++) {
             for (int j = 0; j < originalPuzzle[i].length; j++) {
                 if (originalPuzzle[i][j] != 0) {
                     presetPositions.add(new int[]{i, j, originalPuzzle[i][j]});
-                    presetCount++;
                 }
             }
         }
 
         for (int s = 0; s < steps.size(); s++) {
             int[][] step = steps.get(s);
-            int nonZeroCount = 0;
             boolean matchesAllPresets = true;
-
-            for (int i = 0; i < step.length; i++) {
-                for (int j = 0; j < step[i].length; j++) {
-                    if (step[i][j] != 0) {
-                        nonZeroCount++;
-                    }
-                }
-            }
-
             for (int[] preset : presetPositions) {
                 int row = preset[0], col = preset[1], value = preset[2];
                 if (step[row][col] != value) {
@@ -529,126 +643,96 @@ public class SudokuSolverUI extends Application {
                     break;
                 }
             }
-
-            if (!foundCompletePreset && matchesAllPresets && nonZeroCount >= presetCount) {
-                foundCompletePreset = true;
-                filteredSteps.add(step);
-            } else if (foundCompletePreset) {
-                filteredSteps.add(step);
+            if (matchesAllPresets) {
+                return steps.subList(s, steps.size());
             }
         }
-
-        return filteredSteps;
+        return new ArrayList<>();
     }
 
     private void visualizeStepsWithAnimation(List<int[][]> steps, String solverType) {
         ((HBox) gridScrollPane.getParent().getChildrenUnmodifiable().get(6)).setVisible(true);
         previousStep = copyPuzzle(currentPuzzle);
-        currentStepIndex = 0;
 
-        if (animationTimeline != null) {
-            animationTimeline.stop();
+        if (stepPlayer != null) {
+            stepPlayer.pause();
         }
 
-        animationTimeline = new Timeline();
-
-        updateGridWithStep(steps.get(0));
-        statusLabel.setText("Step 1/" + steps.size() + " (" + solverType + ")");
-        currentStepIndex++;
+        playbackSolverType = solverType;
+        updatingPosition = true;
+        positionSlider.setMax(Math.max(1, steps.size() - 1));
+        positionSlider.setValue(0);
+        updatingPosition = false;
 
-        for (int i = 1; i < steps.size(); i++) {
-            final int[][] step = steps.get(i);
-            final int stepNum = i;
-            KeyFrame keyFrame = new KeyFrame(Duration.millis(animationSpeed * i), e -> {
-                updateGridWithStep(step);
-                currentStepIndex = stepNum;
-                statusLabel.setText("Step " + (currentStepIndex + 1) + "/" + steps.size() + " (" + solverType + ")");
-            });
-            animationTimeline.getKeyFrames().add(keyFrame);
-        }
-
-        animationTimeline.setOnFinished(e -> {
+        stepPlayer = new StepPlayer(steps, animationSpeed, this::showStep, () -> {
             statusLabel.setText(solverType + " Solved!");
             ((HBox) gridScrollPane.getParent().getChildrenUnmodifiable().get(6)).setVisible(false);
-            animationTimeline = null;
             currentPuzzle = steps.get(steps.size() - 1);
+            stepPlayer = null;
         });
+        stepPlayer.seek(0);
+        stepPlayer.play();
+    }
 
-        animationTimeline.setCycleCount(1);
-        animationTimeline.play();
+    private void showStep(int index) {
+        updateGridWithStep(stepPlayer.getStep(index));
+        updatingPosition = true;
+        positionSlider.setValue(index);
+        updatingPosition = false;
+        statusLabel.setText("Step " + (index + 1) + "/" + stepPlayer.size() + " (" + playbackSolverType + ")");
     }
 
     private void pauseAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.pause();
-            statusLabel.setText("Visualization paused at Step " + (currentStepIndex + 1) + "/" + solvingSteps.size());
+        if (stepPlayer != null) {
+            stepPlayer.pause();
+            statusLabel.setText("Visualization paused at Step " + (stepPlayer.getIndex() + 1) + "/" + stepPlayer.size());
         }
     }
 
     private void resumeAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.play();
-            statusLabel.setText("Visualizing Step " + (currentStepIndex + 1) + "/" + solvingSteps.size());
+        if (stepPlayer != null) {
+            stepPlayer.play();
+            statusLabel.setText("Visualizing Step " + (stepPlayer.getIndex() + 1) + "/" + stepPlayer.size());
         }
     }
 
     private void showPreviousStep() {
-        if (animationTimeline != null && solvingSteps != null && currentStepIndex > 0) {
-            animationTimeline.pause();
-            currentStepIndex--;
-            updateGridWithStep(solvingSteps.get(currentStepIndex));
-            statusLabel.setText("Step " + (currentStepIndex + 1) + "/" + solvingSteps.size() + " (" + statusLabel.getText().split(" ")[2]);
+        if (stepPlayer != null && stepPlayer.getIndex() > 0) {
+            stepPlayer.pause();
+            stepPlayer.seek(stepPlayer.getIndex() - 1);
         }
     }
 
     private void showNextStep() {
-        if (animationTimeline != null && solvingSteps != null && currentStepIndex < solvingSteps.size() - 1) {
-            animationTimeline.pause();
-            currentStepIndex++;
-            updateGridWithStep(solvingSteps.get(currentStepIndex));
-            statusLabel.setText("Step " + (currentStepIndex + 1) + "/" + solvingSteps.size() + " (" + statusLabel.getText().split(" ")[2]);
+        if (stepPlayer != null && stepPlayer.getIndex() < stepPlayer.size() - 1) {
+            stepPlayer.pause();
+            stepPlayer.seek(stepPlayer.getIndex() + 1);
         }
     }
 
-    private void restartAnimationIfRunning() {
-        if (animationTimeline != null && animationTimeline.getStatus() == Timeline.Status.RUNNING) {
-            String solverType = statusLabel.getText().split(" ")[2].replace("(", "").replace(")", "");
-            visualizeStepsWithAnimation(solvingSteps, solverType);
+    private void applyAnimationSpeed() {
+        if (stepPlayer != null) {
+            stepPlayer.setMillisPerStep(animationSpeed);
         }
     }
 
     private void updateGridWithStep(int[][] step) {
+        // The canvas keeps its own copy of what is on screen, so no previousStep is needed there.
+        if (boardCanvas != null) {
+            boardCanvas.showStep(step);
+            return;
+        }
         int size = step.length;
         for (int row = 0; row < size; row++) {
             for (int col = 0; col < size; col++) {
                 if (previousStep == null || previousStep[row][col] != step[row][col]) {
-                    TextField cell = (TextField) getNodeFromGridPane(sudokuGrid, col, row);
-                    if (cell != null) {
-                        updateCellAppearance(cell, step[row][col], originalPuzzle[row][col], true);
-                    }
+                    updateCellAppearance(cells[row][col], step[row][col], originalPuzzle[row][col], true);
                 }
             }
         }
         previousStep = copyPuzzle(step);
     }
 
-    private Node getNodeFromGridPane(GridPane grid, int column, int row) {
-        for (Node node : grid.getChildren()) {
-            Integer colIndex = GridPane.getColumnIndex(node);
-            Integer rowIndex = GridPane.getRowIndex(node);
-            if (colIndex == null) {
-                colIndex = 0;
-            }
-            if (rowIndex == null) {
-                rowIndex = 0;
-            }
-            if (colIndex != null && rowIndex != null && colIndex == column && rowIndex == row) {
-                return node;
-            }
-        }
-        return null;
-    }
-
     private int[][] copyPuzzle(int[][] puzzle) {
         int size = puzzle.length;
         int[][] copy = new int[size][size];
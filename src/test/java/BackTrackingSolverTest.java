@@ -76,12 +76,13 @@ public class BackTrackingSolverTest {
         board[2][2] = 3;
 
         BackTrackingSolver solver = new BackTrackingSolver(N, false);
-        solver.sudoku = board;
-        solver.findInitialConstraints();
+        solver.solve(board);
 
-        assertTrue(solver.rowConstraints.get(0).contains(1));
-        assertTrue(solver.colConstraints.get(1).contains(2));
-        assertTrue(solver.boxConstraints.get(solver.getBoxIndex(2, 2)).contains(3));
+        assertTrue(solver.getRowConstraints(0).contains(1));
+        assertTrue(solver.getColConstraints(1).contains(2));
+        assertTrue(solver.getBoxConstraints(solver.getBoxIndex(2, 2)).contains(3));
+        assertEquals(Set.of(1), solver.getRowConstraints(0));
+        assertThrows(UnsupportedOperationException.class, () -> solver.getRowConstraints(0).add(9));
     }
 
     @Test
@@ -122,6 +123,75 @@ public class BackTrackingSolverTest {
     void testSetTimeoutMillis() {
         BackTrackingSolver solver = new BackTrackingSolver(N, false);
         solver.setTimeoutMillis(5000);
-        assertEquals(5000, solver.timeoutMillis);
+        assertEquals(5000, solver.getTimeoutMillis());
+    }
+
+    @Test
+    void testIterativeSearchMatchesRecursiveSearch() {
+        int[][] board = {
+                {0, 0, 0, 0, 0, 0, 0, 1, 2},
+                {0, 0, 0, 0, 3, 5, 0, 0, 0},
+                {0, 0, 0, 6, 0, 0, 0, 7, 0},
+                {7, 0, 0, 0, 0, 0, 3, 0, 0},
+                {0, 0, 0, 4, 0, 0, 8, 0, 0},
+                {1, 0, 0, 0, 0, 0, 0, 0, 0},
+                {0, 0, 0, 1, 2, 0, 0, 0, 0},
+                {0, 8, 0, 0, 0, 0, 0, 4, 0},
+                {0, 5, 0, 0, 0, 0, 6, 0, 0}
+        };
+
+        BackTrackingSolver recursive = new BackTrackingSolver(N, false);
+        recursive.setIterative(false);
+        int[][] expected = recursive.solve(copy(board));
+
+        BackTrackingSolver iterative = new BackTrackingSolver(N, false);
+        int[][] actual = iterative.solve(copy(board));
+
+        assertNotNull(actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(recursive.getNumberOfGuesses(), iterative.getNumberOfGuesses());
+        assertEquals(recursive.getPropagationDepth(), iterative.getPropagationDepth());
+    }
+
+    private int[][] copy(int[][] board) {
+        int[][] result = new int[board.length][];
+        for (int i = 0; i < board.length; i++) result[i] = board[i].clone();
+        return result;
+    }
+
+    @Test
+    void testSolves36x36Board() {
+        int[][] board = board36();
+        assertValid36(board, new BackTrackingSolver(36, false).solve(board));
+    }
+
+    // A 36x36 board cut from a shifted-pattern solution with every other diagonal cell left blank.
+    private static int[][] board36() {
+        int n = 36, box = 6;
+        int[][] board = new int[n][n];
+        for (int r = 0; r < n; r++)
+            for (int c = 0; c < n; c++)
+                if ((r * 7 + c * 3) % 2 != 0) board[r][c] = (box * (r % box) + r / box + c) % n + 1;
+        return board;
+    }
+
+    private static void assertValid36(int[][] board, int[][] solved) {
+        int n = 36, box = 6;
+        assertNotNull(solved);
+        for (int i = 0; i < n; i++) {
+            Set<Integer> row = new HashSet<>();
+            Set<Integer> col = new HashSet<>();
+            Set<Integer> block = new HashSet<>();
+            for (int j = 0; j < n; j++) {
+                assertTrue(solved[i][j] >= 1 && solved[i][j] <= n);
+                if (board[i][j] != 0) assertEquals(board[i][j], solved[i][j]);
+                row.add(solved[i][j]);
+                col.add(solved[j][i]);
+                block.add(solved[(i / box) * box + j / box][(i % box) * box + j % box]);
+            }
+            assertEquals(n, row.size());
+            assertEquals(n, col.size());
+            assertEquals(n, block.size());
+        }
     }
 }
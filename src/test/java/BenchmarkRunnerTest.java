@@ -0,0 +1,112 @@
+import implementations.BenchmarkRunner;
+import implementations.SolveBudget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       BenchmarkRunnerTest Class
+ * ============================================
+ * User For: Unit testing the benchmark runner: failed runs are counted without stopping the
+ * measurement, budget exhaustion and repeated failures end it, outliers are fenced off, and the
+ * percentile and confidence interval summaries are consistent.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class BenchmarkRunnerTest {
+
+    @Test
+    void testFailedRunsAreCountedAndMeasurementContinues() {
+        BenchmarkRunner runner = new BenchmarkRunner(2, 9);
+        runner.setWarmupRuns(2, 2);
+        int[] calls = {0};
+
+        BenchmarkRunner.Stats stats = runner.run(() -> ++calls[0] % 3 != 0);
+
+        assertEquals(2, stats.warmupRuns);
+        assertEquals(9, stats.measuredRuns);
+        assertEquals(11, calls[0]);
+        assertEquals(3, stats.failedRuns);
+        assertEquals(6, stats.samplesNanos.length + stats.outliersRemoved);
+    }
+
+    @Test
+    void testConsecutiveFailuresStopTheRunner() {
+        BenchmarkRunner runner = new BenchmarkRunner(2, 10);
+        int[] calls = {0};
+
+        BenchmarkRunner.Stats stats = runner.run(() -> {
+            calls[0]++;
+            throw new IllegalStateException("broken");
+        });
+
+        assertFalse(stats.hasSamples());
+        assertEquals(2, calls[0]);
+        assertEquals(2, stats.failedRuns);
+        assertTrue(stats.lastFailure instanceof IllegalStateException);
+    }
+
+    @Test
+    void testBudgetExhaustionStopsImmediately() {
+        BenchmarkRunner runner = new BenchmarkRunner(2, 10);
+        int[] calls = {0};
+
+        BenchmarkRunner.Stats stats = runner.run(() -> {
+            calls[0]++;
+            SolveBudget budget = new SolveBudget(0, 1);
+            budget.tick();
+            budget.tick();
+            return true;
+        });
+
+        assertEquals(1, calls[0]);
+        assertEquals(1, stats.failedRuns);
+        assertFalse(stats.hasSamples());
+        assertTrue(stats.lastFailure instanceof SolveBudget.ExhaustedException);
+    }
+
+    @Test
+    void testOutliersOutsideTukeyFencesAreRejected() {
+        long[] kept = new BenchmarkRunner().rejectOutliers(new long[]{100, 104, 98, 101, 5_000, 99, 103});
+
+        assertArrayEquals(new long[]{100, 104, 98, 101, 99, 103}, kept);
+    }
+
+    @Test
+    void testNearestRankPercentiles() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = i + 1;
+
+        assertEquals(50, BenchmarkRunner.percentile(sorted, 50));
+        assertEquals(90, BenchmarkRunner.percentile(sorted, 90));
+        assertEquals(99, BenchmarkRunner.percentile(sorted, 99));
+        assertEquals(7, BenchmarkRunner.percentile(new long[]{7}, 99));
+    }
+
+    @Test
+    void testSummaryIsConsistent() {
+        BenchmarkRunner runner = new BenchmarkRunner(3, 20);
+        BenchmarkRunner.Stats stats = runner.run(() -> {
+            long sum = 0;
+            for (int i = 0; i < 20_000; i++) sum += i * (long) i;
+            return sum > 0;
+        });
+
+        assertTrue(stats.hasSamples());
+        assertEquals(0, stats.failedRuns);
+        assertTrue(stats.warmupRuns >= 3);
+        assertTrue(stats.minNanos <= stats.p50Nanos && stats.p50Nanos <= stats.p90Nanos && stats.p90Nanos <= stats.p99Nanos);
+        assertTrue(stats.p99Nanos <= stats.maxNanos);
+        assertTrue(stats.ciLowNanos <= stats.meanNanos && stats.meanNanos <= stats.ciHighNanos);
+    }
+
+    @Test
+    void testInvalidConfigurationThrowsException() {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        assertThrows(IllegalArgumentException.class, () -> runner.setWarmupRuns(3, 1));
+        assertThrows(IllegalArgumentException.class, () -> runner.setMeasuredRuns(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> runner.setSteadyState(1, 0.05));
+    }
+}
@@ -0,0 +1,137 @@
+import implementations.ColumnarResults;
+import implementations.ColumnarResults.Type;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       ColumnarResultsTest Class
+ * ============================================
+ * User For: Unit testing the columnar results file: every column type reads back what was
+ * written (missing values included), boards of 9x9 up to 36x36 survive the bit packing, column
+ * types are inferred from CSV text, and the CSV export matches Main's notation.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class ColumnarResultsTest {
+
+    private static int[][] randomBoard(int size, long seed) {
+        Random random = new Random(seed);
+        int[][] board = new int[size][size];
+        for (int[] row : board)
+            for (int c = 0; c < size; c++) row[c] = random.nextInt(size + 1);
+        return board;
+    }
+
+    @Test
+    void testTypedColumnsRoundTrip() throws Exception {
+        ColumnarResults.Writer writer = new ColumnarResults.Writer(
+                new String[]{"Nodes", "Mean", "Solved", "Solver"},
+                new Type[]{Type.INT64, Type.FLOAT64, Type.BOOL, Type.STRING});
+        writer.addRow(12L, 1.5, true, "DLX");
+        writer.addRow("-7", "N/A", "No", "DPLLSAT");
+        writer.addRow(null, 0.25, "", "DLX");
+        writer.addRow(Long.MAX_VALUE, -3.0, false, "");
+        Path file = Files.createTempFile("results", ".col");
+        writer.write(file);
+
+        ColumnarResults.Reader reader = ColumnarResults.Reader.open(file);
+        assertEquals(4, reader.getRowCount());
+        assertEquals(List.of("Nodes", "Mean", "Solved", "Solver"), reader.getColumnNames());
+        assertArrayEquals(new long[]{12, -7, 0, Long.MAX_VALUE}, reader.getLongs("Nodes"));
+        assertArrayEquals(new boolean[]{true, true, false, true}, reader.getPresent("Nodes"));
+        double[] means = reader.getDoubles("Mean");
+        assertEquals(1.5, means[0], 1e-12);
+        assertTrue(Double.isNaN(means[1]));
+        assertEquals(-3.0, means[3], 1e-12);
+        assertArrayEquals(new boolean[]{true, false, false, false}, reader.getBooleans("Solved"));
+        assertArrayEquals(new boolean[]{true, true, false, true}, reader.getPresent("Solved"));
+        assertArrayEquals(new String[]{"DLX", "DPLLSAT", "DLX", null}, reader.getStrings("Solver"));
+    }
+
+    @Test
+    void testBoardsOfEverySizeRoundTrip() throws Exception {
+        ColumnarResults.Writer writer = new ColumnarResults.Writer(new String[]{"Board"}, new Type[]{Type.BOARD});
+        int[][][] boards = {randomBoard(9, 1), randomBoard(16, 2), null, randomBoard(25, 3), randomBoard(36, 4)};
+        for (int[][] board : boards) writer.addRow((Object) board);
+        Path file = Files.createTempFile("boards", ".col");
+        writer.write(file);
+
+        int[][][] read = ColumnarResults.Reader.open(file).getBoards("Board");
+        for (int i = 0; i < boards.length; i++) assertArrayEquals(boards[i], read[i]);
+        // 81 cells at 4 bits each plus one size byte, and so on for 16, 25 and 36 at 5, 5 and 6 bits.
+        assertTrue(Files.size(file) < 100 + 41 + 161 + 391 + 972 + 1);
+    }
+
+    @Test
+    void testRejectsBadValues() {
+        ColumnarResults.Writer writer = new ColumnarResults.Writer(
+                new String[]{"Nodes", "Board"}, new Type[]{Type.INT64, Type.BOARD});
+        assertThrows(IllegalArgumentException.class, () -> writer.addRow("many", null));
+        assertThrows(IllegalArgumentException.class, () -> writer.addRow(1L, new int[][]{{0, 5}, {1, 2}}));
+        assertThrows(IllegalArgumentException.class, () -> writer.addRow(1L));
+        assertEquals(0, writer.getRowCount());
+    }
+
+    @Test
+    void testInfersTypesAndExportsCsv() throws Exception {
+        String[] header = {"PuzzleName", "Solver", "Solved", "HintCount", "AverageTime(ms)", "Run2(ms)", "Solution"};
+        int[][] solution = randomBoard(9, 5);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"Puzzle_1", "DLX", "Yes", "30", "0.75", "", solution});
+        rows.add(new Object[]{"Puzzle_1", "Backtracking", "No", "30", "12", "N/A", null});
+        Path file = Files.createTempFile("inferred", ".col");
+        ColumnarResults.Writer.forRows(header, rows).write(file);
+
+        ColumnarResults.Reader reader = ColumnarResults.Reader.open(file);
+        assertEquals(Type.STRING, reader.getType("PuzzleName"));
+        assertEquals(Type.BOOL, reader.getType("Solved"));
+        assertEquals(Type.INT64, reader.getType("HintCount"));
+        assertEquals(Type.FLOAT64, reader.getType("AverageTime(ms)"));
+        assertEquals(Type.BOARD, reader.getType("Solution"));
+        assertThrows(IllegalArgumentException.class, () -> reader.getLongs("Solver"));
+
+        StringWriter csv = new StringWriter();
+        reader.exportCsv(csv);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(String.join(",", header), lines[0]);
+        StringBuilder cells = new StringBuilder();
+        for (int[] row : solution)
+            for (int cell : row) cells.append(cell);
+        assertEquals("Puzzle_1,DLX,Yes,30,0.75,," + cells, lines[1]);
+        assertEquals("Puzzle_1,Backtracking,No,30,12,,", lines[2]);
+    }
+
+    @Test
+    void testSmallerThanCsv() throws Exception {
+        String[] header = {"PuzzleName", "Solver", "Solved", "Nodes", "Mean(μs)", "Solution"};
+        List<Object[]> rows = new ArrayList<>();
+        StringBuilder csv = new StringBuilder(String.join(",", header)).append("\n");
+        String[] solvers = {"Backtracking", "ConstraintPropagation", "DPLLSAT", "DLX"};
+        for (int p = 0; p < 200; p++) {
+            int[][] board = randomBoard(25, p);
+            StringBuilder cells = new StringBuilder();
+            for (int[] row : board)
+                for (int cell : row) cells.append(cell);
+            for (String solver : solvers) {
+                Object[] row = {"Puzzle_" + p, solver, "Yes", String.valueOf(p * 37), String.format("%.1f", p * 1.5), board};
+                rows.add(row);
+                csv.append(String.join(",", "Puzzle_" + p, solver, "Yes", (String) row[3], (String) row[4], cells)).append("\n");
+            }
+        }
+        Path file = Files.createTempFile("size", ".col");
+        ColumnarResults.Writer.forRows(header, rows).write(file);
+
+        assertTrue(Files.size(file) * 2 < csv.length(), Files.size(file) + " vs " + csv.length());
+        assertEquals(800, ColumnarResults.Reader.open(file).getRowCount());
+    }
+}
@@ -0,0 +1,119 @@
+import datasets.PuzzleGenerator;
+import implementations.BackTrackingSolver;
+import implementations.ConcurrentSolver;
+import implementations.ConstraintPropagationSolver;
+import implementations.DLXSolver;
+import implementations.SolveBudget;
+import implementations.SolveOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       ConcurrentSolverTest Class
+ * ============================================
+ * User For: Unit testing the thread-safe solve API: many threads sharing one ConcurrentSolver and
+ * the same input boards get DLX-identical immutable outcomes, and no solve writes to its input.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class ConcurrentSolverTest {
+
+    private static final String[] SOLVERS = {"Backtracking", "ConstraintPropagation", "DPLLSAT", "DLX"};
+
+    @Test
+    void testSharedSolverAcrossThreadsMatchesDLX() throws Exception {
+        int[][][] puzzles = new PuzzleGenerator(9, 28).generateCorpus(8, 21L);
+        int[][][] before = new int[puzzles.length][][];
+        int[][][] expected = new int[puzzles.length][][];
+        for (int i = 0; i < puzzles.length; i++) {
+            before[i] = copy(puzzles[i]);
+            expected[i] = new DLXSolver(9, false).solve(puzzles[i]);
+        }
+
+        ConcurrentSolver shared = new ConcurrentSolver();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SolveOutcome>> futures = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < puzzles.length; i++) {
+                    int[][] puzzle = puzzles[i];
+                    String name = SOLVERS[(round + i) % SOLVERS.length];
+                    futures.add(executor.submit(() -> shared.solve(name, puzzle)));
+                    indexes.add(i);
+                }
+            }
+            for (int k = 0; k < futures.size(); k++) {
+                SolveOutcome outcome = futures.get(k).get();
+                assertTrue(outcome.isSolved(), outcome.toString());
+                assertArrayEquals(expected[indexes.get(k)], outcome.getSolution(), outcome.toString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < puzzles.length; i++) assertArrayEquals(before[i], puzzles[i]);
+    }
+
+    @Test
+    void testOutcomeSolutionCannotBeChangedByCaller() {
+        int[][] puzzle = new PuzzleGenerator(9, 30).generateCorpus(1, 4L)[0];
+        SolveOutcome outcome = new ConcurrentSolver().solve("DLX", puzzle);
+
+        int first = outcome.getCell(0, 0);
+        outcome.getSolution()[0][0] = 0;
+
+        assertEquals(first, outcome.getCell(0, 0));
+        assertNotSame(outcome.getSolution(), outcome.getSolution());
+    }
+
+    @Test
+    void testExhaustedAndUnsolvableStatuses() {
+        int[][] bad = new int[9][9];
+        bad[0][0] = 5;
+        bad[0][8] = 5;
+        ConcurrentSolver shared = new ConcurrentSolver();
+
+        SolveOutcome unsolvable = shared.solve("DLX", bad);
+        SolveOutcome exhausted = shared.solve("Backtracking", new int[9][9], 0, 1);
+
+        assertEquals(SolveOutcome.Status.UNSOLVABLE, unsolvable.getStatus());
+        assertNull(unsolvable.getSolution());
+        assertEquals(SolveOutcome.Status.EXHAUSTED, exhausted.getStatus());
+        assertEquals(SolveBudget.Reason.NODE_LIMIT, exhausted.getExhaustedReason());
+        assertThrows(IllegalStateException.class, () -> exhausted.getCell(0, 0));
+        assertTrue(shared.solve("Backtracking", new int[9][9]).isSolved());
+    }
+
+    @Test
+    void testLegacySolveLeavesInputUntouched() {
+        int[][] puzzle = new PuzzleGenerator(9, 26).generateCorpus(1, 9L)[0];
+        int[][] before = copy(puzzle);
+
+        int[][] back = new BackTrackingSolver(9, false).solve(puzzle);
+        int[][] cp = new ConstraintPropagationSolver(9, false).solve(puzzle);
+
+        assertArrayEquals(before, puzzle);
+        assertArrayEquals(back, cp);
+    }
+
+    @Test
+    void testUnknownSolverThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSolver().solve("Unknown", new int[9][9]));
+    }
+
+    private int[][] copy(int[][] board) {
+        int[][] result = new int[board.length][];
+        for (int i = 0; i < board.length; i++) result[i] = board[i].clone();
+        return result;
+    }
+}
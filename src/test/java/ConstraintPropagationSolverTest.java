@@ -61,47 +61,59 @@ public class ConstraintPropagationSolverTest {
     @Test
     void testInitializeConstraintsAndDomain() {
         ConstraintPropagationSolver solver = new ConstraintPropagationSolver(N, false);
-        solver.sudoku = new int[N][N];
-        solver.sudoku[0][0] = 5;
-        solver.sudoku[1][1] = 3;
+        int[][] board = new int[N][N];
+        board[0][0] = 5;
+        board[1][1] = 3;
 
-        for (int i = 0; i < N; i++) {
-            solver.rowConstraints.put(i, new HashSet<>());
-            solver.colConstraints.put(i, new HashSet<>());
-            solver.boxConstraints.put(i, new HashSet<>());
-        }
+        solver.solve(board);
 
-        solver.initializeConstraintsAndDomain();
+        assertTrue(solver.getRowConstraints(0).contains(5));
+        assertTrue(solver.getColConstraints(1).contains(3));
+        assertTrue(solver.getBoxConstraints(solver.getBoxIndex(1, 1, 3)).contains(3));
+        assertNull(solver.getDomain(0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> solver.getDomain(0, 1).clear());
+    }
 
-        assertTrue(solver.rowConstraints.get(0).contains(5));
-        assertTrue(solver.colConstraints.get(1).contains(3));
-        assertTrue(solver.boxConstraints.get(solver.getBoxIndex(1, 1, 3)).contains(3));
-        assertFalse(solver.domain.containsKey("0,0"));
+    @Test
+    void testSolveFillsConstraintMaps() {
+        ConstraintPropagationSolver solver = new ConstraintPropagationSolver(4, false);
+        int[][] board = new int[4][4];
+        board[0][0] = 1;
+        board[3][3] = 2;
+
+        assertNotNull(solver.solve(board));
+
+        assertEquals(Set.of(1), solver.getRowConstraints(0));
+        assertEquals(Set.of(2), solver.getColConstraints(3));
+        assertNull(solver.getDomain(0, 0));
+        assertEquals(Set.of(2, 3, 4), solver.getDomain(0, 1));
+
+        board[0][0] = 0;
+        solver.solve(board);
+        assertTrue(solver.getRowConstraints(0).isEmpty());
+        int openCells = 0;
+        for (int r = 0; r < 4; r++)
+            for (int c = 0; c < 4; c++)
+                if (solver.getDomain(r, c) != null) openCells++;
+        assertEquals(16 - 1, openCells);
     }
 
     @Test
     void testBacktrackEmptyBoardSucceeds() {
         ConstraintPropagationSolver solver = new ConstraintPropagationSolver(N, false);
-        solver.sudoku = new int[N][N];
+        int[][] result = solver.solve(new int[N][N]);
+        assertNotNull(result);
         for (int i = 0; i < N; i++) {
-            solver.rowConstraints.put(i, new HashSet<>());
-            solver.colConstraints.put(i, new HashSet<>());
-            solver.boxConstraints.put(i, new HashSet<>());
+            Set<Integer> row = new HashSet<>();
+            for (int j = 0; j < N; j++) row.add(result[i][j]);
+            assertEquals(N, row.size());
         }
-        solver.initializeConstraintsAndDomain();
-        boolean solved = solver.backtrack(new HashMap<>(solver.domain), 0);
-        assertTrue(solved);
+        assertTrue(solver.getNumberOfGuesses() > 0);
     }
 
     @Test
     void testPropagationRemovesFromDomain() {
         ConstraintPropagationSolver solver = new ConstraintPropagationSolver(4, false);
-        solver.sudoku = new int[4][4];
-        for (int i = 0; i < 4; i++) {
-            solver.rowConstraints.put(i, new HashSet<>());
-            solver.colConstraints.put(i, new HashSet<>());
-            solver.boxConstraints.put(i, new HashSet<>());
-        }
 
         Map<String, Set<Integer>> dom = new HashMap<>();
         dom.put("0,0", new HashSet<>(Set.of(1, 2, 3)));
@@ -166,4 +178,40 @@ public class ConstraintPropagationSolverTest {
         assertTrue(solver.getNumberOfGuesses() >= 0);
         assertTrue(solver.getPropagationDepth() > 0);
     }
+
+    @Test
+    void testSolves36x36Board() {
+        int[][] board = board36();
+        assertValid36(board, new ConstraintPropagationSolver(36, false).solve(board));
+    }
+
+    // A 36x36 board cut from a shifted-pattern solution with every other diagonal cell left blank.
+    private static int[][] board36() {
+        int n = 36, box = 6;
+        int[][] board = new int[n][n];
+        for (int r = 0; r < n; r++)
+            for (int c = 0; c < n; c++)
+                if ((r * 7 + c * 3) % 2 != 0) board[r][c] = (box * (r % box) + r / box + c) % n + 1;
+        return board;
+    }
+
+    private static void assertValid36(int[][] board, int[][] solved) {
+        int n = 36, box = 6;
+        assertNotNull(solved);
+        for (int i = 0; i < n; i++) {
+            Set<Integer> row = new HashSet<>();
+            Set<Integer> col = new HashSet<>();
+            Set<Integer> block = new HashSet<>();
+            for (int j = 0; j < n; j++) {
+                assertTrue(solved[i][j] >= 1 && solved[i][j] <= n);
+                if (board[i][j] != 0) assertEquals(board[i][j], solved[i][j]);
+                row.add(solved[i][j]);
+                col.add(solved[j][i]);
+                block.add(solved[(i / box) * box + j / box][(i % box) * box + j % box]);
+            }
+            assertEquals(n, row.size());
+            assertEquals(n, col.size());
+            assertEquals(n, block.size());
+        }
+    }
 }
@@ -96,7 +96,6 @@ public class DLXSolverTest {
         board[0][0] = 5;
 
         DLXSolver solver = new DLXSolver(N, false);
-        solver.initialPuzzle = solver.copyBoard(board); 
         List<DLXSolver.DLXNode> preset = new ArrayList<>();
         solver.buildDLXStructure(board, preset);
 
@@ -112,10 +111,13 @@ public class DLXSolverTest {
         board[4][4] = 7;
 
         DLXSolver solver = new DLXSolver(N, false);
-        solver.solve(board);
+        int[][] result = solver.solve(board);
 
-        assertEquals(7, solver.initialPuzzle[4][4]);
-        assertEquals(7, solver.sudoku[4][4]);
+        assertEquals(7, board[4][4]);
+        assertEquals(7, result[4][4]);
+        assertEquals(7, solver.getLastBoard()[4][4]);
+        solver.getLastBoard()[4][4] = 1;
+        assertEquals(7, solver.getLastBoard()[4][4]);
     }
 
     @Test
@@ -155,4 +157,147 @@ public class DLXSolverTest {
 
         assertSame(restored, col);
     }
+
+    @Test
+    void testCountSolutionsDetectsUniquePuzzle() {
+        int[][] board = {
+                {5, 3, 0, 0, 7, 0, 0, 0, 0},
+                {6, 0, 0, 1, 9, 5, 0, 0, 0},
+                {0, 9, 8, 0, 0, 0, 0, 6, 0},
+                {8, 0, 0, 0, 6, 0, 0, 0, 3},
+                {4, 0, 0, 8, 0, 3, 0, 0, 1},
+                {7, 0, 0, 0, 2, 0, 0, 0, 6},
+                {0, 6, 0, 0, 0, 0, 2, 8, 0},
+                {0, 0, 0, 4, 1, 9, 0, 0, 5},
+                {0, 0, 0, 0, 8, 0, 0, 7, 9}
+        };
+
+        DLXSolver solver = new DLXSolver(N, false);
+        assertEquals(1, solver.countSolutions(board, 2));
+        assertTrue(solver.hasUniqueSolution(board));
+        assertNull(solver.getLastBoard(), "counting should not build solution boards");
+    }
+
+    @Test
+    void testCountSolutionsStopsAtLimit() {
+        DLXSolver solver = new DLXSolver(4, false);
+        int[][] board = new int[4][4];
+
+        assertEquals(2, solver.countSolutions(board, 2));
+        assertFalse(solver.hasUniqueSolution(board));
+        assertEquals(288, solver.countSolutions(board, 1_000));
+    }
+
+    @Test
+    void testParallelCountMatchesSequentialCount() {
+        DLXSolver solver = new DLXSolver(4, false);
+        int[][] board = new int[4][4];
+        board[0][0] = 1;
+
+        assertEquals(solver.countSolutions(board, 1_000), solver.countSolutionsParallel(board, 1_000));
+        assertEquals(2, solver.countSolutionsParallel(board, 2));
+    }
+
+    @Test
+    void testCountSolutionsWithConflictingCluesIsZero() {
+        DLXSolver solver = new DLXSolver(4, false);
+        int[][] board = new int[4][4];
+        board[0][0] = 1;
+        board[0][3] = 1;
+
+        assertEquals(0, solver.countSolutions(board, 2));
+        assertEquals(0, solver.countSolutionsParallel(board, 2));
+    }
+
+    @Test
+    void testIterativeSearchMatchesRecursiveSearch() {
+        int[][] board = {
+                {0, 0, 0, 0, 0, 0, 0, 1, 2},
+                {0, 0, 0, 0, 3, 5, 0, 0, 0},
+                {0, 0, 0, 6, 0, 0, 0, 7, 0},
+                {7, 0, 0, 0, 0, 0, 3, 0, 0},
+                {0, 0, 0, 4, 0, 0, 8, 0, 0},
+                {1, 0, 0, 0, 0, 0, 0, 0, 0},
+                {0, 0, 0, 1, 2, 0, 0, 0, 0},
+                {0, 8, 0, 0, 0, 0, 0, 4, 0},
+                {0, 5, 0, 0, 0, 0, 6, 0, 0}
+        };
+
+        DLXSolver recursive = new DLXSolver(N, true);
+        recursive.setIterative(false);
+        int[][] expected = recursive.solve(board);
+
+        DLXSolver iterative = new DLXSolver(N, true);
+        int[][] actual = iterative.solve(board);
+
+        assertNotNull(actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(recursive.getNumberOfGuesses(), iterative.getNumberOfGuesses());
+        assertEquals(recursive.getPropagationDepth(), iterative.getPropagationDepth());
+        assertEquals(recursive.getStepCount(), iterative.getStepCount());
+    }
+
+    @Test
+    void testCompactBuildMatchesClassicBuild() {
+        int[][] board = {
+                {0, 0, 0, 0, 0, 0, 0, 1, 2},
+                {0, 0, 0, 0, 3, 5, 0, 0, 0},
+                {0, 0, 0, 6, 0, 0, 0, 7, 0},
+                {7, 0, 0, 0, 0, 0, 3, 0, 0},
+                {0, 0, 0, 4, 0, 0, 8, 0, 0},
+                {1, 0, 0, 0, 0, 0, 0, 0, 0},
+                {0, 0, 0, 1, 2, 0, 0, 0, 0},
+                {0, 8, 0, 0, 0, 0, 0, 4, 0},
+                {0, 5, 0, 0, 0, 0, 6, 0, 0}
+        };
+
+        DLXSolver classic = new DLXSolver(N, false);
+        classic.setCompactBuild(false);
+        int[][] expected = classic.solve(board);
+
+        DLXSolver compact = new DLXSolver(N, false);
+        int[][] actual = compact.solve(board);
+
+        assertArrayEquals(expected, actual);
+        assertEquals(classic.getNumberOfGuesses(), compact.getNumberOfGuesses());
+        assertEquals(classic.getPropagationDepth(), compact.getPropagationDepth());
+        assertEquals(compact.countSolutions(board, 2), classic.countSolutions(board, 2));
+    }
+
+    @Test
+    void testCompactBuildLeavesOutClueConflictingRows() {
+        int[][] board = {
+                {5, 3, 0, 0, 7, 0, 0, 0, 0},
+                {6, 0, 0, 1, 9, 5, 0, 0, 0},
+                {0, 9, 8, 0, 0, 0, 0, 6, 0},
+                {8, 0, 0, 0, 6, 0, 0, 0, 3},
+                {4, 0, 0, 8, 0, 3, 0, 0, 1},
+                {7, 0, 0, 0, 2, 0, 0, 0, 6},
+                {0, 6, 0, 0, 0, 0, 2, 8, 0},
+                {0, 0, 0, 4, 1, 9, 0, 0, 5},
+                {0, 0, 0, 0, 8, 0, 0, 7, 9}
+        };
+        DLXSolver solver = new DLXSolver(N, false);
+
+        DLXSolver.DLXHeader full = solver.buildDLXStructure(board, new ArrayList<>());
+        DLXSolver.DLXHeader compact = solver.buildCompactDLXStructure(board);
+
+        int fullNodes = 0, compactNodes = 0;
+        for (int i = 0; i < 4 * N * N; i++) {
+            fullNodes += full.columns[i].size;
+            compactNodes += compact.columns[i].size;
+        }
+        assertTrue(compactNodes < fullNodes / 2);
+        assertEquals(0, compact.columns[0].size);
+        assertTrue(compact.columns[2].size > 0);
+    }
+
+    @Test
+    void testCompactBuildRejectsConflictingClues() {
+        int[][] board = new int[N][N];
+        board[0][0] = 4;
+        board[8][0] = 4;
+
+        assertNull(new DLXSolver(N, false).solve(board));
+    }
 }
@@ -0,0 +1,94 @@
+import implementations.DifficultyRater;
+import implementations.SolveBudget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       DifficultyRaterTest Class
+ * ============================================
+ * User For: Unit testing the technique-based difficulty rater, including easy singles-only puzzles, puzzles that need guessing, a budgeted branch count, and invalid clue sets.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class DifficultyRaterTest {
+
+    private static final int N = 9;
+
+    private static final int[][] EASY = {
+            {5, 3, 0, 0, 7, 0, 0, 0, 0},
+            {6, 0, 0, 1, 9, 5, 0, 0, 0},
+            {0, 9, 8, 0, 0, 0, 0, 6, 0},
+            {8, 0, 0, 0, 6, 0, 0, 0, 3},
+            {4, 0, 0, 8, 0, 3, 0, 0, 1},
+            {7, 0, 0, 0, 2, 0, 0, 0, 6},
+            {0, 6, 0, 0, 0, 0, 2, 8, 0},
+            {0, 0, 0, 4, 1, 9, 0, 0, 5},
+            {0, 0, 0, 0, 8, 0, 0, 7, 9}
+    };
+
+    private static final String HARD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    private int[][] parse(String s) {
+        int[][] board = new int[N][N];
+        for (int i = 0; i < N * N; i++) board[i / N][i % N] = s.charAt(i) - '0';
+        return board;
+    }
+
+    @Test
+    void testEasyPuzzleSolvedWithSinglesOnly() {
+        DifficultyRater.Rating rating = new DifficultyRater(N).rate(EASY);
+
+        assertTrue(rating.solvable);
+        assertTrue(rating.hardest.ordinal() <= DifficultyRater.Technique.NAKED_SINGLE.ordinal());
+        assertEquals(81 - 30, rating.steps);
+        assertEquals(0, rating.branches);
+    }
+
+    @Test
+    void testHardPuzzleNeedsGuessing() {
+        DifficultyRater.Rating hard = new DifficultyRater(N).rate(parse(HARD));
+        DifficultyRater.Rating easy = new DifficultyRater(N).rate(EASY);
+
+        assertTrue(hard.solvable);
+        assertEquals(DifficultyRater.Technique.GUESSING, hard.hardest);
+        assertTrue(hard.branches > 0);
+        assertTrue(hard.score > easy.score);
+    }
+
+    @Test
+    void testBranchCountStopsAtBudget() {
+        DifficultyRater rater = new DifficultyRater(N);
+        rater.setBudget(new SolveBudget(0, 1));
+        DifficultyRater.Rating rating = rater.rate(parse(HARD));
+
+        assertTrue(rating.exhausted);
+        assertFalse(rating.solvable);
+        assertEquals(DifficultyRater.Technique.GUESSING, rating.hardest);
+        assertFalse(new DifficultyRater(N).rate(parse(HARD)).exhausted);
+    }
+
+    @Test
+    void testConflictingCluesAreUnsolvable() {
+        int[][] board = new int[N][N];
+        board[0][0] = 4;
+        board[0][8] = 4;
+
+        assertFalse(new DifficultyRater(N).rate(board).solvable);
+    }
+
+    @Test
+    void testFullGridNeedsNoTechnique() {
+        int[][] grid = new int[4][4];
+        int[][] rows = {{1, 2, 3, 4}, {3, 4, 1, 2}, {2, 1, 4, 3}, {4, 3, 2, 1}};
+        for (int r = 0; r < 4; r++) grid[r] = rows[r].clone();
+
+        DifficultyRater.Rating rating = new DifficultyRater(4).rate(grid);
+        assertTrue(rating.solvable);
+        assertEquals(DifficultyRater.Technique.NONE, rating.hardest);
+        assertEquals(0, rating.steps);
+    }
+}
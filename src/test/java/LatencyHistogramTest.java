@@ -0,0 +1,79 @@
+import implementations.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       LatencyHistogramTest Class
+ * ============================================
+ * User For: Unit testing the lock-free latency histogram: percentiles within 1% of the exact
+ * nearest-rank values, exact small values, and no lost records under concurrent writers.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesWithinOnePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(3);
+        long[] values = new long[20_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniform between 1 µs and 10 s, like solve times across board sizes.
+            values[i] = (long) Math.pow(10, 3 + random.nextDouble() * 7);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(values.length, snapshot.count);
+        assertEquals(values[0], snapshot.minNanos);
+        assertEquals(values[values.length - 1], snapshot.maxNanos);
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = histogram.percentile(p);
+            assertTrue(reported >= exact, "p" + p + " below exact value");
+            assertTrue(reported <= exact * 1.01, "p" + p + " off by more than 1%: " + reported + " vs " + exact);
+        }
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) histogram.record(i);
+        assertEquals(50, histogram.percentile(50));
+        assertEquals(99, histogram.percentile(99));
+        assertEquals(50.5, histogram.snapshot().meanNanos, 1e-9);
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.count);
+        assertEquals(0, snapshot.p99Nanos);
+    }
+
+    @Test
+    void testConcurrentRecordsAreNotLost() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) histogram.record(1_000L * (offset + 1) + i);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(8 * 50_000, snapshot.count);
+        assertEquals(1_000, snapshot.minNanos);
+        assertEquals(8_000 + 49_999, snapshot.maxNanos);
+    }
+}
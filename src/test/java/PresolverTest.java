@@ -0,0 +1,96 @@
+import implementations.Presolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       PresolverTest Class
+ * ============================================
+ * User For: Unit testing the shared presolve stage: singles to a fixpoint, early contradictions,
+ * and that the input board is left untouched.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class PresolverTest {
+
+    private static final int[][] EASY = {
+            {5, 3, 0, 0, 7, 0, 0, 0, 0},
+            {6, 0, 0, 1, 9, 5, 0, 0, 0},
+            {0, 9, 8, 0, 0, 0, 0, 6, 0},
+            {8, 0, 0, 0, 6, 0, 0, 0, 3},
+            {4, 0, 0, 8, 0, 3, 0, 0, 1},
+            {7, 0, 0, 0, 2, 0, 0, 0, 6},
+            {0, 6, 0, 0, 0, 0, 2, 8, 0},
+            {0, 0, 0, 4, 1, 9, 0, 0, 5},
+            {0, 0, 0, 0, 8, 0, 0, 7, 9}
+    };
+
+    @Test
+    void testSinglesSolveEasyPuzzle() {
+        Presolver.Result result = new Presolver(9).presolve(EASY);
+
+        assertTrue(result.solved);
+        assertFalse(result.contradiction);
+        assertEquals(81 - 30, result.filledCells);
+        for (int r = 0; r < 9; r++) {
+            int seen = 0;
+            for (int c = 0; c < 9; c++) {
+                if (EASY[r][c] != 0) assertEquals(EASY[r][c], result.board[r][c]);
+                seen |= 1 << result.board[r][c];
+            }
+            assertEquals(0x3FE, seen);
+        }
+    }
+
+    @Test
+    void testInputBoardIsNotModified() {
+        int[][] board = new int[9][];
+        for (int r = 0; r < 9; r++) board[r] = EASY[r].clone();
+
+        new Presolver(9).presolve(board);
+
+        assertArrayEquals(EASY, board);
+    }
+
+    @Test
+    void testConflictingCluesAreContradiction() {
+        int[][] board = new int[4][4];
+        board[0][0] = 1;
+        board[0][3] = 1;
+
+        Presolver.Result result = new Presolver(4).presolve(board);
+
+        assertTrue(result.contradiction);
+        assertFalse(result.solved);
+    }
+
+    @Test
+    void testCellWithNoCandidateIsContradiction() {
+        int[][] board = {
+                {0, 2, 3, 4},
+                {0, 0, 0, 0},
+                {1, 0, 0, 0},
+                {0, 0, 0, 0}
+        };
+
+        Presolver.Result result = new Presolver(4).presolve(board);
+
+        assertTrue(result.contradiction);
+    }
+
+    @Test
+    void testEmptyBoardKeepsAllCandidates() {
+        Presolver.Result result = new Presolver(9).presolve(new int[9][9]);
+
+        assertFalse(result.solved);
+        assertEquals(0, result.filledCells);
+        for (long mask : result.candidates) assertEquals(0x1FF, mask);
+    }
+
+    @Test
+    void testInvalidSizeThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new Presolver(9).presolve(new int[4][4]));
+    }
+}
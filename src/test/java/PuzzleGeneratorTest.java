@@ -0,0 +1,93 @@
+import datasets.PuzzleGenerator;
+import implementations.DLXSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       PuzzleGeneratorTest Class
+ * ============================================
+ * User For: Unit testing the seeded puzzle generator, including valid complete grids, unique-solution puzzles, clue targets and reproducible corpora.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class PuzzleGeneratorTest {
+
+    private int countClues(int[][] board) {
+        int count = 0;
+        for (int[] row : board)
+            for (int cell : row)
+                if (cell != 0) count++;
+        return count;
+    }
+
+    @Test
+    void testSolvedGridIsValid() {
+        int N = 9;
+        int[][] grid = new PuzzleGenerator(N, 30).generateSolvedGrid(new Random(7));
+
+        for (int i = 0; i < N; i++) {
+            Set<Integer> row = new HashSet<>();
+            Set<Integer> col = new HashSet<>();
+            Set<Integer> box = new HashSet<>();
+            for (int j = 0; j < N; j++) {
+                row.add(grid[i][j]);
+                col.add(grid[j][i]);
+                box.add(grid[(i / 3) * 3 + j / 3][(i % 3) * 3 + j % 3]);
+            }
+            assertEquals(N, row.size());
+            assertEquals(N, col.size());
+            assertEquals(N, box.size());
+        }
+    }
+
+    @Test
+    void testGeneratedPuzzleIsUniqueAndHitsClueTarget() {
+        int[][] puzzle = new PuzzleGenerator(9, 32).generatePuzzle(new Random(11));
+
+        assertEquals(32, countClues(puzzle));
+        assertTrue(new DLXSolver(9, false).hasUniqueSolution(puzzle));
+    }
+
+    @Test
+    void testCorpusIsReproducibleForSameSeed() {
+        PuzzleGenerator generator = new PuzzleGenerator(4, 6);
+
+        int[][][] first = generator.generateCorpus(20, 42L);
+        int[][][] second = generator.generateCorpus(20, 42L);
+
+        assertArrayEquals(first, second);
+        assertFalse(Arrays.deepEquals(first, generator.generateCorpus(20, 43L)));
+    }
+
+    @Test
+    void testDifficultyBandIsNeverViolated() {
+        PuzzleGenerator generator = new PuzzleGenerator(9, 26);
+        generator.setDifficultyBand(60, 100);
+
+        int[][][] corpus = generator.generateCorpus(8, 9L);
+        assertTrue(corpus.length > 0);
+        for (int[][] puzzle : corpus) {
+            DLXSolver checker = new DLXSolver(9, false);
+            checker.countSolutions(puzzle, 2);
+            assertTrue(checker.getNumberOfGuesses() >= 60 && checker.getNumberOfGuesses() <= 100);
+        }
+
+        generator.setDifficultyBand(1_000_000, Long.MAX_VALUE);
+        assertNull(generator.generatePuzzle(new Random(3)));
+        assertEquals(0, generator.generateCorpus(2, 9L).length);
+        assertThrows(IllegalArgumentException.class, () -> generator.setDifficultyBand(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setUniquenessCheckNodes(-1));
+    }
+
+    @Test
+    void testDatasetLineMatchesPuzzleBankFormat() {
+        int[][] puzzle = {{1, 0, 0, 0}, {0, 0, 2, 0}, {0, 3, 0, 0}, {0, 0, 0, 4}};
+
+        assertEquals("4_1,4,1 0 0 0 0 0 2 0 0 3 0 0 0 0 0 4", PuzzleGenerator.toDatasetLine("4_1", puzzle));
+    }
+}
@@ -178,7 +178,7 @@ class SATSolverTest {
         DPLLSATSolver solver = new DPLLSATSolver(N, false);
         int[][] result = solver.solve(board);
 
-        assertNotNull(result);
+        assertNull(result);
     }
 
     @Test
@@ -201,6 +201,108 @@ class SATSolverTest {
         assertEquals(solver.getStepCount(), solver.getSteps().size());
     }
 
+    @Test
+    void testIterativeDPLLSolves25x25WithoutDepthLimit() {
+        int n = 25;
+        int[][] board = new int[n][n];
+        for (int r = 0; r < n; r++)
+            for (int c = 0; c < n; c++)
+                if ((r * 7 + c * 3) % 4 != 0) board[r][c] = (5 * (r % 5) + r / 5 + c) % n + 1;
+
+        DPLLSATSolver solver = new DPLLSATSolver(n, false);
+        int[][] solved = solver.solve(board);
+
+        assertNotNull(solved);
+        for (int r = 0; r < n; r++) {
+            Set<Integer> row = new HashSet<>();
+            for (int c = 0; c < n; c++) {
+                row.add(solved[r][c]);
+                if (board[r][c] != 0) assertEquals(board[r][c], solved[r][c]);
+            }
+            assertEquals(n, row.size());
+        }
+        assertTrue(solver.getPropagationDepth() <= SudokuCnfEncoder.variableCount(n));
+    }
+
+    @Test
+    void testIterativeDPLLMatchesRecursiveOnSmallBoard() {
+        int[][] board = {
+                {1, 0, 0, 2},
+                {0, 0, 0, 0},
+                {0, 0, 0, 0},
+                {3, 0, 0, 4}
+        };
+        SudokuCnfEncoder encoder = new SudokuCnfEncoder(N);
+
+        DPLLSATSolver recursive = new DPLLSATSolver(N, false);
+        boolean recursiveResult = recursive.runDPLL(encoder.encodeSudoku(board), 0);
+        DPLLSATSolver iterative = new DPLLSATSolver(N, false);
+        boolean iterativeResult = iterative.runIterativeDPLL(encoder.encodeSudoku(board));
+
+        assertEquals(recursiveResult, iterativeResult);
+    }
+
+    @Test
+    void testBaseClausesAreSharedPerSize() {
+        int[][] first = SudokuCnfEncoder.baseClauses(N);
+        int[][] second = SudokuCnfEncoder.baseClauses(N);
+
+        assertSame(first, second);
+        int[][] full = new SudokuCnfEncoder(N).encodeSudoku(new int[N][N]);
+        assertEquals(full.length, first.length);
+    }
+
+    @Test
+    void testIncrementalSolverReusesBaseAcrossPuzzles() {
+        int[][] base = SudokuCnfEncoder.baseClauses(9);
+        int[][] snapshot = new int[base.length][];
+        for (int i = 0; i < base.length; i++) snapshot[i] = base[i].clone();
+
+        int[][][] puzzles = new datasets.PuzzleGenerator(9, 30).generateCorpus(6, 21L);
+        DPLLSATSolver incremental = new DPLLSATSolver(9, false);
+        for (int[][] puzzle : puzzles) {
+            DPLLSATSolver fresh = new DPLLSATSolver(9, false);
+            fresh.setIncremental(false);
+            assertArrayEquals(fresh.solve(puzzle), incremental.solve(puzzle));
+        }
+
+        int[][] conflicting = new int[9][9];
+        conflicting[0][0] = 3;
+        conflicting[0][5] = 3;
+        assertNull(incremental.solve(conflicting));
+        assertNotNull(incremental.solve(puzzles[0]));
+
+        for (int i = 0; i < base.length; i++) assertArrayEquals(snapshot[i], base[i]);
+    }
+
+    @Test
+    void testIncrementalSolversRunConcurrently() throws Exception {
+        int[][][] puzzles = new datasets.PuzzleGenerator(9, 28).generateCorpus(8, 99L);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    DPLLSATSolver solver = new DPLLSATSolver(9, false);
+                    for (int[][] puzzle : puzzles) {
+                        int[][] solved = solver.solve(puzzle);
+                        assertNotNull(solved);
+                        for (int r = 0; r < 9; r++)
+                            for (int c = 0; c < 9; c++)
+                                if (puzzle[r][c] != 0) assertEquals(puzzle[r][c], solved[r][c]);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
     @Test
     void testDPLLSATSolverHandlesEmptyInput() {
         DPLLSATSolver solver = new DPLLSATSolver(N, false);
@@ -209,4 +311,64 @@ class SATSolverTest {
         int[][] result = solver.solve(invalid);
         assertNull(result);
     }
+
+    @Test
+    void testSequentialCounterEncodingAbove25x25() {
+        int n = 36;
+        int cellVars = n * n * n;
+        int[][] cnf = new SudokuCnfEncoder(n).encodeSudoku(new int[n][n]);
+
+        // 4N^2 exactly-one groups of N literals: one at-least-one clause plus 3N-4 counter clauses each.
+        assertEquals(4L * n * n * (3 * n - 3), cnf.length);
+        int maxVar = 0;
+        Set<Integer> auxVars = new HashSet<>();
+        for (int[] clause : cnf) {
+            for (int literal : clause) {
+                maxVar = Math.max(maxVar, Math.abs(literal));
+                if (Math.abs(literal) > cellVars) auxVars.add(Math.abs(literal));
+            }
+        }
+        assertEquals(SudokuCnfEncoder.variableCount(n), maxVar);
+        assertEquals(4 * n * n * (n - 1), auxVars.size());
+        for (int[] clause : cnf) {
+            if (clause.length > 2) assertEquals(n, clause.length);
+        }
+    }
+
+    @Test
+    void testSolves36x36BoardIgnoringAuxiliaryVariables() {
+        int[][] board = board36();
+        // The counter variables are numbered past N^3 and end up assigned too; decoding must skip them.
+        assertValid36(board, new DPLLSATSolver(36, false).solve(board));
+    }
+
+    // A 36x36 board cut from a shifted-pattern solution with every other diagonal cell left blank.
+    private static int[][] board36() {
+        int n = 36, box = 6;
+        int[][] board = new int[n][n];
+        for (int r = 0; r < n; r++)
+            for (int c = 0; c < n; c++)
+                if ((r * 7 + c * 3) % 2 != 0) board[r][c] = (box * (r % box) + r / box + c) % n + 1;
+        return board;
+    }
+
+    private static void assertValid36(int[][] board, int[][] solved) {
+        int n = 36, box = 6;
+        assertNotNull(solved);
+        for (int i = 0; i < n; i++) {
+            Set<Integer> row = new HashSet<>();
+            Set<Integer> col = new HashSet<>();
+            Set<Integer> block = new HashSet<>();
+            for (int j = 0; j < n; j++) {
+                assertTrue(solved[i][j] >= 1 && solved[i][j] <= n);
+                if (board[i][j] != 0) assertEquals(board[i][j], solved[i][j]);
+                row.add(solved[i][j]);
+                col.add(solved[j][i]);
+                block.add(solved[(i / box) * box + j / box][(i % box) * box + j % box]);
+            }
+            assertEquals(n, row.size());
+            assertEquals(n, col.size());
+            assertEquals(n, block.size());
+        }
+    }
 }
@@ -0,0 +1,141 @@
+import implementations.DLXSolver;
+import implementations.SolutionCache;
+import implementations.SudokuSymmetry;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolutionCacheTest Class
+ * ============================================
+ * User For: Unit testing the symmetry-canonicalizing solution cache, including canonical forms of equivalent puzzles, mapping solutions back, and LRU eviction.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolutionCacheTest {
+
+    private static final int N = 9;
+
+    private static final int[][] PUZZLE = {
+            {5, 3, 0, 0, 7, 0, 0, 0, 0},
+            {6, 0, 0, 1, 9, 5, 0, 0, 0},
+            {0, 9, 8, 0, 0, 0, 0, 6, 0},
+            {8, 0, 0, 0, 6, 0, 0, 0, 3},
+            {4, 0, 0, 8, 0, 3, 0, 0, 1},
+            {7, 0, 0, 0, 2, 0, 0, 0, 6},
+            {0, 6, 0, 0, 0, 0, 2, 8, 0},
+            {0, 0, 0, 4, 1, 9, 0, 0, 5},
+            {0, 0, 0, 0, 8, 0, 0, 7, 9}
+    };
+
+    private int[][] solveWithDLX(int[][] board) {
+        return new DLXSolver(board.length, false).solve(board);
+    }
+
+    private int[][] equivalentPuzzle() {
+        SudokuSymmetry.Transform shuffle = new SudokuSymmetry.Transform(true,
+                new int[]{5, 3, 4, 0, 2, 1, 6, 8, 7},
+                new int[]{7, 6, 8, 1, 0, 2, 3, 5, 4},
+                new int[]{0, 4, 7, 1, 9, 2, 8, 3, 6, 5});
+        return shuffle.apply(PUZZLE);
+    }
+
+    private void assertSolves(int[][] puzzle, int[][] solution) {
+        assertNotNull(solution);
+        for (int i = 0; i < N; i++) {
+            Set<Integer> row = new HashSet<>();
+            Set<Integer> col = new HashSet<>();
+            Set<Integer> box = new HashSet<>();
+            for (int j = 0; j < N; j++) {
+                row.add(solution[i][j]);
+                col.add(solution[j][i]);
+                box.add(solution[(i / 3) * 3 + j / 3][(i % 3) * 3 + j % 3]);
+                if (puzzle[i][j] != 0) assertEquals(puzzle[i][j], solution[i][j]);
+            }
+            assertEquals(N, row.size());
+            assertEquals(N, col.size());
+            assertEquals(N, box.size());
+        }
+    }
+
+    @Test
+    void testEquivalentPuzzlesShareCanonicalForm() {
+        SudokuSymmetry symmetry = new SudokuSymmetry(N);
+        String original = symmetry.canonicalize(PUZZLE).key;
+        String shuffled = symmetry.canonicalize(equivalentPuzzle()).key;
+
+        assertEquals(original, shuffled);
+    }
+
+    @Test
+    void testTransformInvertRestoresBoard() {
+        SudokuSymmetry.CanonicalForm canonical = new SudokuSymmetry(N).canonicalize(PUZZLE);
+
+        assertArrayEquals(PUZZLE, canonical.transform.invert(canonical.board));
+        assertArrayEquals(canonical.board, canonical.transform.apply(PUZZLE));
+    }
+
+    @Test
+    void testEquivalentPuzzleIsServedFromCache() {
+        SolutionCache cache = new SolutionCache(16);
+
+        assertSolves(PUZZLE, cache.solve(PUZZLE, this::solveWithDLX));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        int[][] shuffled = equivalentPuzzle();
+        int[][] solution = cache.solve(shuffled, board -> {
+            fail("Equivalent puzzle should not reach the solver");
+            return null;
+        });
+
+        assertSolves(shuffled, solution);
+        assertEquals(1, cache.getHits());
+        assertEquals(0.5, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void testLookupAndStoreServeEquivalentPuzzle() {
+        SolutionCache cache = new SolutionCache(16);
+
+        SolutionCache.Lookup miss = cache.lookup(PUZZLE);
+        assertFalse(miss.isHit());
+        cache.store(miss, solveWithDLX(PUZZLE));
+
+        int[][] shuffled = equivalentPuzzle();
+        SolutionCache.Lookup hit = cache.lookup(shuffled);
+        assertTrue(hit.isHit());
+        assertSolves(shuffled, hit.solution);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testCallerBoardIsNotModified() {
+        SolutionCache cache = new SolutionCache(16);
+        int[][] board = new DLXSolver(N, false).copyBoard(PUZZLE);
+
+        cache.solve(board, this::solveWithDLX);
+
+        assertArrayEquals(PUZZLE, board);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        SolutionCache cache = new SolutionCache(1);
+        int[][] empty = new int[N][N];
+
+        cache.solve(PUZZLE, this::solveWithDLX);
+        cache.solve(empty, this::solveWithDLX);
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.solve(PUZZLE, this::solveWithDLX);
+        assertEquals(0, cache.getHits());
+    }
+}
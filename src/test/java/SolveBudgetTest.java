@@ -0,0 +1,121 @@
+import implementations.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolveBudgetTest Class
+ * ============================================
+ * User For: Unit testing the shared solve budget, including node limits, deadlines and cancellation across all four solvers.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolveBudgetTest {
+
+    private static final int N = 9;
+
+    private static final String HARD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    private int[][] hardPuzzle() {
+        int[][] board = new int[N][N];
+        for (int i = 0; i < N * N; i++) board[i / N][i % N] = HARD.charAt(i) - '0';
+        return board;
+    }
+
+    @Test
+    void testNodeLimitStopsEverySolver() {
+        SolveBudget b1 = new SolveBudget(0, 10);
+        BackTrackingSolver back = new BackTrackingSolver(N, false);
+        back.setBudget(b1);
+        assertThrows(SolveBudget.ExhaustedException.class, () -> back.solve(hardPuzzle()));
+
+        ConstraintPropagationSolver cp = new ConstraintPropagationSolver(N, false);
+        cp.setBudget(new SolveBudget(0, 10));
+        assertThrows(SolveBudget.ExhaustedException.class, () -> cp.solve(hardPuzzle()));
+
+        DPLLSATSolver dpll = new DPLLSATSolver(N, false);
+        dpll.setBudget(new SolveBudget(0, 10));
+        assertThrows(SolveBudget.ExhaustedException.class, () -> dpll.solve(hardPuzzle()));
+
+        DLXSolver dlx = new DLXSolver(N, false);
+        dlx.setBudget(new SolveBudget(0, 10));
+        SolveBudget.ExhaustedException e = assertThrows(SolveBudget.ExhaustedException.class, () -> dlx.solve(hardPuzzle()));
+        assertEquals(SolveBudget.Reason.NODE_LIMIT, e.getReason());
+        assertEquals(11, e.getNodes());
+    }
+
+    @Test
+    void testCancelledBudgetStopsSolve() {
+        SolveBudget budget = SolveBudget.unlimited();
+        budget.cancel();
+        BackTrackingSolver back = new BackTrackingSolver(N, false);
+        back.setBudget(budget);
+
+        SolveBudget.ExhaustedException e = assertThrows(SolveBudget.ExhaustedException.class, () -> back.solve(hardPuzzle()));
+        assertEquals(SolveBudget.Reason.CANCELLED, e.getReason());
+    }
+
+    @Test
+    void testDeadlineStopsSolve() {
+        ConstraintPropagationSolver cp = new ConstraintPropagationSolver(16, false);
+        cp.setBudget(SolveBudget.ofMillis(1));
+
+        SolveBudget.ExhaustedException e = assertThrows(SolveBudget.ExhaustedException.class, () -> cp.solve(new int[16][16]));
+        assertEquals(SolveBudget.Reason.DEADLINE, e.getReason());
+    }
+
+    @Test
+    void testUnlimitedBudgetCountsNodes() {
+        SolveBudget budget = SolveBudget.unlimited();
+        DLXSolver dlx = new DLXSolver(N, false);
+        dlx.setBudget(budget);
+
+        assertNotNull(dlx.solve(hardPuzzle()));
+        assertTrue(budget.getNodes() > 0);
+    }
+
+    @Test
+    void testParallelCountHonoursDeadlineAndNodeBudget() {
+        DLXSolver dlx = new DLXSolver(N, false);
+        dlx.setBudget(SolveBudget.ofMillis(50));
+        SolveBudget.ExhaustedException e = assertThrows(SolveBudget.ExhaustedException.class,
+                () -> dlx.countSolutionsParallel(new int[N][N], Long.MAX_VALUE));
+        assertEquals(SolveBudget.Reason.DEADLINE, e.getReason());
+
+        SolveBudget budget = new SolveBudget(0, 5_000);
+        dlx.setBudget(budget);
+        e = assertThrows(SolveBudget.ExhaustedException.class, () -> dlx.countSolutionsParallel(new int[N][N], Long.MAX_VALUE));
+        assertEquals(SolveBudget.Reason.NODE_LIMIT, e.getReason());
+        assertTrue(budget.getNodes() > 5_000);
+    }
+
+    @Test
+    void testProgressListenerIsThrottledAndCanCancel() {
+        // Clashing clues in one row keep constraint propagation searching until it is stopped.
+        int[][] board = new int[N][N];
+        board[0][0] = 5;
+        board[0][8] = 5;
+        SolveBudget budget = SolveBudget.ofMillis(10_000);
+        List<long[]> reports = new ArrayList<>();
+        budget.setProgressListener((nodes, elapsedNanos) -> {
+            reports.add(new long[]{nodes, elapsedNanos});
+            if (reports.size() == 4) budget.cancel();
+        }, 20);
+        ConstraintPropagationSolver cp = new ConstraintPropagationSolver(N, false);
+        cp.setBudget(budget);
+
+        SolveBudget.ExhaustedException e = assertThrows(SolveBudget.ExhaustedException.class, () -> cp.solve(board));
+        assertEquals(SolveBudget.Reason.CANCELLED, e.getReason());
+        assertEquals(4, reports.size());
+        for (int i = 1; i < reports.size(); i++) {
+            assertTrue(reports.get(i)[0] > reports.get(i - 1)[0]);
+            assertTrue(reports.get(i)[1] - reports.get(i - 1)[1] >= 20_000_000);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import datasets.PuzzleGenerator;
+import implementations.ConstraintPropagationSolver;
+import implementations.DLXSolver;
+import implementations.DPLLSATSolver;
+import implementations.SolveBudget;
+import implementations.SolverEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolverEventsTest Class
+ * ============================================
+ * User For: Unit testing the Flight Recorder phase events: a recording sees encode, matrix build,
+ * propagation, search and progress events with their fields, and nothing is created without one.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverEventsTest {
+
+    @Test
+    void testPhaseEventsAreRecorded() throws Exception {
+        int[][] puzzle = new PuzzleGenerator(9, 26).generateCorpus(1, 11L)[0];
+        List<RecordedEvent> events = record(() -> {
+            new DLXSolver(9, false).solve(puzzle);
+            DPLLSATSolver sat = new DPLLSATSolver(9, false);
+            sat.setIncremental(false);
+            sat.solve(puzzle);
+        });
+
+        RecordedEvent build = find(events, "sudoku.MatrixBuild");
+        assertEquals(9, build.getInt("size"));
+        assertEquals(26, build.getInt("clues"));
+        assertTrue(build.getBoolean("compact"));
+
+        RecordedEvent encode = find(events, "sudoku.Encode");
+        assertEquals(729, encode.getInt("variables"));
+        assertTrue(encode.getInt("clauses") > 0);
+
+        RecordedEvent search = find(events, "sudoku.Search");
+        assertEquals("DLX", search.getString("solver"));
+        assertTrue(search.getBoolean("solved"));
+        assertTrue(search.getLong("nodes") > 0);
+
+        assertEquals(2, events.stream().filter(e -> e.getEventType().getName().equals("sudoku.Propagation")).count());
+    }
+
+    @Test
+    void testProgressEventsDuringLongSearch() throws Exception {
+        int[][] conflicting = new int[9][9];
+        conflicting[0][0] = 5;
+        conflicting[0][8] = 5;
+        List<RecordedEvent> events = record(() -> {
+            ConstraintPropagationSolver solver = new ConstraintPropagationSolver(9, false);
+            solver.setBudget(SolveBudget.ofMillis(SolverEvents.PROGRESS_INTERVAL_MILLIS * 3));
+            assertThrows(SolveBudget.ExhaustedException.class, () -> solver.solve(conflicting));
+        });
+
+        RecordedEvent progress = find(events, "sudoku.SearchProgress");
+        assertTrue(progress.getLong("nodes") > 0);
+        RecordedEvent search = find(events, "sudoku.Search");
+        assertFalse(search.getBoolean("solved"));
+    }
+
+    @Test
+    void testNoEventsWithoutRecording() {
+        assertNull(SolverEvents.beginSearch("DLX", new int[9][9]));
+        assertNull(SolverEvents.beginEncode(9));
+    }
+
+    private List<RecordedEvent> record(Runnable work) throws Exception {
+        Path file = Files.createTempFile("solver-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"sudoku.Encode", "sudoku.MatrixBuild", "sudoku.Propagation",
+                    "sudoku.Search", "sudoku.SearchProgress"}) {
+                recording.enable(name);
+            }
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("missing " + name));
+    }
+}
@@ -0,0 +1,96 @@
+import implementations.ConcurrentSolver;
+import implementations.SolverMetrics;
+import implementations.SolverPool;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolverMetricsTest Class
+ * ============================================
+ * User For: Unit testing the solver metrics registry: outcome counters per solver and size,
+ * recording from ConcurrentSolver, the platform MBean and the snapshot file.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverMetricsTest {
+
+    @Test
+    void testCountersPerSolverAndSize() {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.record("DLX", 9, 1_000_000, SolverMetrics.Outcome.SOLVED);
+        metrics.record("DLX", 9, 2_000_000, SolverMetrics.Outcome.TIMEOUT);
+        metrics.record("DLX", 16, 5_000_000, SolverMetrics.Outcome.UNSOLVED);
+        metrics.record("Backtracking", 9, 3_000_000, SolverMetrics.Outcome.FAILED);
+
+        SolverMetrics.Series dlx9 = metrics.series("DLX", 9);
+        assertEquals(2, dlx9.getCount());
+        assertEquals(1, dlx9.getSolved());
+        assertEquals(1, dlx9.getTimeouts());
+        assertEquals(2_000, dlx9.getMaxMicros());
+        assertEquals(1, metrics.series("DLX", 16).getUnsolved());
+        assertEquals(1, metrics.series("Backtracking", 9).getFailures());
+
+        List<SolverMetrics.Series> all = metrics.allSeries();
+        assertEquals(3, all.size());
+        assertEquals("Backtracking", all.get(0).getSolver());
+        assertEquals(16, all.get(2).getSize());
+    }
+
+    @Test
+    void testConcurrentSolverFeedsMetrics() {
+        SolverMetrics metrics = new SolverMetrics();
+        ConcurrentSolver solver = new ConcurrentSolver(new SolverPool(), metrics);
+        int[][] unsolvable = new int[9][9];
+        unsolvable[0][0] = 5;
+        unsolvable[0][8] = 5;
+
+        solver.solve("DLX", new int[9][9]);
+        solver.solve("DLX", unsolvable);
+        solver.solve("DLX", new int[16][16], 0, 1);
+
+        assertEquals(1, metrics.series("DLX", 9).getSolved());
+        assertEquals(1, metrics.series("DLX", 9).getUnsolved());
+        assertEquals(1, metrics.series("DLX", 16).getTimeouts());
+    }
+
+    @Test
+    void testGlobalSeriesArePlatformMBeans() throws Exception {
+        SolverMetrics.global().record("DLX", 4, 7_000, SolverMetrics.Outcome.SOLVED);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("sudoku.solvers:type=SolverLatency,solver=\"DLX\",size=4");
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "Count") >= 1);
+        assertTrue((Long) server.getAttribute(name, "P99Micros") >= 0);
+        assertEquals("DLX", server.getAttribute(name, "Solver"));
+    }
+
+    @Test
+    void testSnapshotFile() throws Exception {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.record("DPLLSAT", 9, 4_000_000, SolverMetrics.Outcome.SOLVED);
+        Path dir = Files.createTempDirectory("metrics");
+        Path file = dir.resolve("snapshot.csv");
+
+        AutoCloseable snapshots = metrics.startSnapshots(file, 60_000);
+        snapshots.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("Timestamp,Solver,Size,Count"));
+        assertTrue(lines.get(1).contains(",DPLLSAT,9,1,1,0,0,0,"), lines.get(1));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+import datasets.PuzzleGenerator;
+import implementations.DLXSolver;
+import implementations.ReusableSolver;
+import implementations.SolveBudget;
+import implementations.SolverPool;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolverPoolTest Class
+ * ============================================
+ * User For: Unit testing the reusable solver contract and the pool: one instance solving many
+ * boards must match fresh DLX answers, leave its input untouched, recover from an exhausted
+ * budget, and stop allocating once warmed up.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverPoolTest {
+
+    private static final List<String> SOLVERS = List.of("Backtracking", "ConstraintPropagation", "DPLLSAT", "DLX");
+
+    @Test
+    void testReusedInstancesMatchFreshSolves() {
+        int[][][] puzzles = new PuzzleGenerator(9, 28).generateCorpus(12, 8L);
+        for (String name : SOLVERS) {
+            ReusableSolver solver = SolverPool.create(name, 9);
+            int[][] out = new int[9][9];
+            for (int[][] puzzle : puzzles) {
+                int[][] before = copy(puzzle);
+                solver.reset();
+                assertTrue(solver.solveInto(puzzle, out), name);
+                assertArrayEquals(new DLXSolver(9, false).solve(puzzle), out, name);
+                assertArrayEquals(before, puzzle, name);
+            }
+        }
+    }
+
+    @Test
+    void testReusedInstanceRecoversAfterBudgetExhaustion() {
+        int[][] puzzle = new PuzzleGenerator(9, 24).generateCorpus(1, 3L)[0];
+        for (String name : SOLVERS) {
+            ReusableSolver solver = SolverPool.create(name, 9);
+            int[][] out = new int[9][9];
+            solver.setBudget(new SolveBudget(0, 1));
+            assertThrows(SolveBudget.ExhaustedException.class, () -> solver.solveInto(new int[9][9], out), name);
+
+            solver.reset();
+            assertTrue(solver.solveInto(puzzle, out), name);
+            assertArrayEquals(new DLXSolver(9, false).solve(puzzle), out, name);
+        }
+    }
+
+    @Test
+    void testPoolHandsBackReleasedInstance() {
+        SolverPool pool = new SolverPool();
+        ReusableSolver first = pool.acquire("DLX", 9);
+        pool.release(first);
+
+        assertEquals(1, pool.idleCount("DLX", 9));
+        assertSame(first, pool.acquire("DLX", 9));
+        assertNotSame(first, pool.acquire("DLX", 9));
+        assertEquals(0, pool.idleCount("DLX", 16));
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire("Unknown", 9));
+    }
+
+    @Test
+    void testSteadyStateSolvesDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int[][][] puzzles = new PuzzleGenerator(9, 30).generateCorpus(50, 13L);
+
+        for (String name : SOLVERS) {
+            ReusableSolver solver = SolverPool.create(name, 9);
+            int[][] out = new int[9][9];
+            for (int round = 0; round < 3; round++) {
+                for (int[][] puzzle : puzzles) {
+                    solver.reset();
+                    solver.solveInto(puzzle, out);
+                }
+            }
+
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int[][] puzzle : puzzles) {
+                solver.reset();
+                solver.solveInto(puzzle, out);
+            }
+            long perSolve = (threads.getThreadAllocatedBytes(thread) - before) / puzzles.length;
+            assertTrue(perSolve < 256, name + " allocated " + perSolve + " bytes per solve");
+        }
+    }
+
+    private int[][] copy(int[][] board) {
+        int[][] result = new int[board.length][];
+        for (int i = 0; i < board.length; i++) result[i] = board[i].clone();
+        return result;
+    }
+}
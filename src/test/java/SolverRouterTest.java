@@ -0,0 +1,121 @@
+import implementations.SolverRouter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolverRouterTest Class
+ * ============================================
+ * User For: Unit testing the adaptive solver router: learning from results CSVs in both the old
+ * and the current column layout, falling back to coarser bins, online updates and accuracy.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverRouterTest {
+
+    private static final String OLD_HEADER = "PuzzleName,Solver,Solved,HintCount,HintVariance,DifficultyScore,"
+            + "AverageTime(ms),OriginalPuzzle,Solution";
+    private static final String SOLUTION_9 = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    @Test
+    void testLearnsFastestSolverFromOldCsv() throws Exception {
+        Path dir = Files.createTempDirectory("results");
+        Files.write(dir.resolve("puzzle_result_extra_9x9.csv"), List.of(OLD_HEADER,
+                "Puzzle_1,Backtracking,Yes,30,1.20,20,18,x," + SOLUTION_9,
+                "Puzzle_1,ConstraintPropagation,Yes,30,1.20,20,16,x," + SOLUTION_9,
+                "Puzzle_1,DPLLSAT,Yes,30,1.20,20,68,x," + SOLUTION_9,
+                "Puzzle_1,DLX,Yes,30,1.20,20,9,x," + SOLUTION_9,
+                "Puzzle_2,Backtracking,No,22,1.20,20,0,x,N/A",
+                "Puzzle_2,ConstraintPropagation,Yes,22,1.20,20,40,x," + SOLUTION_9,
+                "Puzzle_2,DPLLSAT,Yes,22,1.20,20,60,x," + SOLUTION_9,
+                "Puzzle_2,DLX,Yes,22,1.20,20,12,x," + SOLUTION_9));
+        Files.writeString(dir.resolve("notes.csv"), "a,b\n1,2\n");
+
+        SolverRouter router = SolverRouter.fromResults(dir);
+        SolverRouter.Features easy = new SolverRouter.Features(9, 30, 1.2, 10);
+        assertEquals("DLX", router.route(easy));
+        assertEquals(9, router.expectedMillis(easy, "DLX"), 1e-6);
+        assertTrue(router.expectedMillis(new SolverRouter.Features(9, 22, 1.2, -1), "Backtracking") >= 120_000);
+        assertTrue(Double.isNaN(router.expectedMillis(new SolverRouter.Features(16, 100, 2, -1), "DLX")));
+    }
+
+    @Test
+    void testSizeComesFromSizeColumnOrSolutionLength() throws Exception {
+        Path dir = Files.createTempDirectory("results");
+        Path file = dir.resolve("puzzle_result_extra.csv");
+        Files.write(file, List.of("PuzzleName,Solver,Solved,HintCount,HintVariance,AverageTime(ms),Solution,Size,PresolveCells",
+                "Puzzle_1,DLX,Yes,130,2.17,5,N/A,16,0",
+                "Puzzle_2,DLX,Yes,30,1.0,2,N/A,9,51"));
+        SolverRouter router = new SolverRouter();
+        assertEquals(2, router.loadCsv(file));
+        assertEquals(5, router.expectedMillis(new SolverRouter.Features(16, 130, 2.17, 0), "DLX"), 1e-6);
+        assertEquals(2, router.expectedMillis(new SolverRouter.Features(9, 30, 1.0, 51), "DLX"), 1e-6);
+    }
+
+    @Test
+    void testExcludedPuzzlesAreNotLearned() throws Exception {
+        Path dir = Files.createTempDirectory("results");
+        Files.write(dir.resolve("puzzle_result_extra_9x9.csv"), List.of(OLD_HEADER,
+                "Puzzle_1,DLX,Yes,30,1.20,20,9,seen," + SOLUTION_9,
+                "Puzzle_2,DLX,Yes,30,1.20,20,25,other," + SOLUTION_9));
+
+        SolverRouter router = SolverRouter.fromResults(dir, Set.of("seen"));
+        assertEquals(25, router.expectedMillis(new SolverRouter.Features(9, 30, 1.2, -1), "DLX"), 1e-6);
+    }
+
+    @Test
+    void testFallsBackToCoarserBinsAndDefault() {
+        SolverRouter router = new SolverRouter();
+        assertEquals("DLX", router.route(new SolverRouter.Features(9, 30, 1.0, 0)));
+
+        SolverRouter.Features seen = new SolverRouter.Features(16, 200, 1.0, 0);
+        for (String solver : SolverRouter.SOLVERS) {
+            router.observe(seen, solver, solver.equals("DPLLSAT") ? 3 : 30, true);
+        }
+        // A 16x16 puzzle with a fill ratio never seen before still gets the size-level choice.
+        assertEquals("DPLLSAT", router.route(new SolverRouter.Features(16, 60, 3.0, 5)));
+    }
+
+    @Test
+    void testOnlineUpdatesChangeTheRoute() {
+        SolverRouter router = new SolverRouter();
+        SolverRouter.Features features = new SolverRouter.Features(9, 25, 1.5, 0);
+        for (String solver : SolverRouter.SOLVERS) router.observe(features, solver, 10, true);
+        router.observe(features, "Backtracking", 1, true);
+        assertEquals("Backtracking", router.route(features));
+
+        for (int i = 0; i < 5; i++) router.observe(features, "Backtracking", 0, false);
+        assertNotEquals("Backtracking", router.route(features));
+    }
+
+    @Test
+    void testRoutingAccuracy() {
+        SolverRouter router = new SolverRouter();
+        assertEquals(0.0, router.getAccuracy(), 1e-9);
+        router.recordRouting("DLX", "DLX");
+        router.recordRouting("DLX", "ConstraintPropagation");
+        router.recordRouting("DPLLSAT", "DPLLSAT");
+        router.recordRouting("DLX", "DLX");
+        assertEquals(4, router.getRoutedCount());
+        assertEquals(0.75, router.getAccuracy(), 1e-9);
+    }
+
+    @Test
+    void testFeaturesOfBoardRunsPresolveProbe() {
+        int[][] board = new int[4][4];
+        board[0][0] = 1;
+        board[0][1] = 2;
+        board[0][2] = 3;
+        SolverRouter.Features features = SolverRouter.Features.of(board);
+        assertEquals(4, features.size);
+        assertEquals(3, features.hintCount);
+        assertTrue(features.presolveFilled >= 1);
+    }
+}
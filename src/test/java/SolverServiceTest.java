@@ -0,0 +1,140 @@
+import implementations.SolverMetrics;
+import implementations.SolverRouter;
+import org.junit.jupiter.api.Test;
+import service.SolverService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SolverServiceTest Class
+ * ============================================
+ * User For: Unit testing the local HTTP solver service, including batched 9x9 solves, direct solves with other solvers, routed solves, bad input, and the metrics endpoint.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SolverServiceTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    private HttpResponse<String> post(HttpClient client, SolverService service, String query, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + service.getPort() + "/solve" + query))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testBatchedAndDirectSolves() throws Exception {
+        SolverService service = new SolverService(0, 64, 2, 8, 200, 5_000);
+        service.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + service.getPort() + "/solve"))
+                        .POST(HttpRequest.BodyPublishers.ofString(PUZZLE))
+                        .build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+                assertEquals(SOLUTION, response.get().body().trim());
+            }
+
+            HttpResponse<String> direct = post(client, service, "?solver=Backtracking", PUZZLE);
+            assertEquals(200, direct.statusCode());
+            assertEquals(SOLUTION, direct.body().trim());
+            // The same puzzle again is answered by the cache; a new one still reaches the solver.
+            assertFalse(service.metricsText().contains("cache_hits 0\n"));
+            HttpResponse<String> small = post(client, service, "?solver=Backtracking", "0234341221434320");
+            assertEquals(200, small.statusCode());
+            assertEquals("1234341221434321", small.body().trim());
+
+            assertTrue(service.metricsText().contains("solved 18"));
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testAutoSolverUsesRouter() throws Exception {
+        SolverRouter router = new SolverRouter();
+        SolverRouter.Features features = SolverRouter.Features.of(SolverService.parseBoard(PUZZLE));
+        for (String solver : SolverRouter.SOLVERS) {
+            router.observe(features, solver, solver.equals("ConstraintPropagation") ? 1 : 50, true);
+        }
+        SolverService service = new SolverService(0, 64, 1, 8, 200, 5_000);
+        service.setRouter(router);
+        service.start();
+        try {
+            long before = SolverMetrics.global().series("ConstraintPropagation", 9).getCount();
+            HttpResponse<String> response = post(HttpClient.newHttpClient(), service, "?solver=Auto", PUZZLE);
+            assertEquals(200, response.statusCode());
+            assertEquals(SOLUTION, response.body().trim());
+            assertEquals(before + 1, SolverMetrics.global().series("ConstraintPropagation", 9).getCount());
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testBadRequestsAreRejected() throws Exception {
+        SolverService service = new SolverService(0, 64, 1, 8, 200, 5_000);
+        service.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            assertEquals(400, post(client, service, "", "12345").statusCode());
+            assertEquals(400, post(client, service, "?solver=Unknown", PUZZLE).statusCode());
+            assertEquals(400, post(client, service, "?timeoutMs=0", PUZZLE).statusCode());
+            assertEquals(400, post(client, service, "?timeoutMs=-5", PUZZLE).statusCode());
+            assertEquals(400, post(client, service, "?timeoutMs=60001", PUZZLE).statusCode());
+            assertEquals(200, post(client, service, "?timeoutMs=60000", PUZZLE).statusCode());
+            service.setMaxTimeoutMillis(1_000);
+            assertEquals(400, post(client, service, "?timeoutMs=2000", PUZZLE).statusCode());
+            assertEquals(413, post(client, service, "", PUZZLE.repeat(1_000)).statusCode());
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testQueuedJobTimesOutFromAcceptance() throws Exception {
+        // One worker that keeps a batch open for two seconds: the request's 100 ms run out while queued.
+        SolverService service = new SolverService(0, 64, 1, 8, 2_000_000, 5_000);
+        service.start();
+        try {
+            long start = System.nanoTime();
+            HttpResponse<String> response = post(HttpClient.newHttpClient(), service, "?timeoutMs=100", PUZZLE);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(504, response.statusCode());
+            assertTrue(elapsedMillis < 1_500, "answered after " + elapsedMillis + " ms");
+            assertTrue(service.metricsText().contains("timed_out 1\n"));
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testParseBoardAcceptsSpaceSeparatedNumbers() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 256; i++) body.append(i == 0 ? "16" : "0").append(' ');
+
+        int[][] board = SolverService.parseBoard(body.toString());
+        assertEquals(16, board.length);
+        assertEquals(16, board[0][0]);
+    }
+}
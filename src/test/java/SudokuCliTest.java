@@ -0,0 +1,146 @@
+import cli.SudokuCli;
+import implementations.ColumnarResults;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       SudokuCliTest Class
+ * ============================================
+ * User For: Unit testing the headless CLI: the stdin to stdout solve filter keeps input order and
+ * reports bad lines in place, bench writes one row per puzzle and solver in every format, and
+ * bad arguments give the usage exit code.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class SudokuCliTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String input, String... args) {
+        return SudokuCli.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private List<String> outLines() {
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    void testSolveFilterKeepsInputOrder() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20; i++) input.append(PUZZLE).append('\n');
+        input.append("1234\n");
+        input.append("\n");
+        input.append(PUZZLE.replace('0', '.')).append('\n');
+
+        int code = run(input.toString(), "solve", "--threads", "3");
+
+        List<String> lines = outLines();
+        assertEquals(22, lines.size());
+        for (int i = 0; i < 20; i++) assertEquals(SOLUTION, lines.get(i));
+        assertEquals("ERROR", lines.get(20));
+        assertEquals(SOLUTION, lines.get(21));
+        assertEquals(1, code);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("line 21"));
+    }
+
+    @Test
+    void testSolveFilterReportsUnsolvableAndBudget() {
+        String clash = "55" + "0".repeat(79);
+        int code = run(clash + "\n" + "0".repeat(256) + "\n", "solve", "--solver", "DLX", "--max-nodes", "1");
+        assertEquals(List.of("UNSOLVABLE", "TIMEOUT"), outLines());
+        assertEquals(1, code);
+    }
+
+    @Test
+    void testBenchWritesRowPerPuzzleAndSolver() throws Exception {
+        Path dataset = Files.createTempFile("puzzles", ".csv");
+        Files.write(dataset, List.of("id,size,data",
+                "9_1,9," + String.join(" ", PUZZLE.split("")),
+                "9_2,9," + String.join(" ", PUZZLE.split(""))));
+        Path output = Files.createTempFile("bench", ".csv");
+
+        int code = run("", "bench", "--dataset", dataset.toString(), "--solvers", "DLX,ConstraintPropagation",
+                "--reps", "2", "--warmup", "0", "--threads", "2", "--output", output.toString());
+
+        assertEquals(0, code);
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).startsWith("Dataset,Puzzle,Solver,Size,Clues,Status,MeasuredRuns"));
+        assertTrue(lines.get(1).contains(",1,DLX,9,30,SOLVED,2,0,"), lines.get(1));
+        assertTrue(lines.get(4).contains(",2,ConstraintPropagation,9,30,SOLVED,2,0,"), lines.get(4));
+    }
+
+    @Test
+    void testBenchNumbersIgnoreDefaultLocale() throws Exception {
+        Path dataset = Files.createTempFile("puzzles", ".csv");
+        Files.write(dataset, List.of("id,size,data", "9_1,9," + String.join(" ", PUZZLE.split(""))));
+        Locale before = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            assertEquals(0, run("", "bench", "--dataset", dataset.toString(), "--solvers", "DLX", "--reps", "1"));
+        } finally {
+            Locale.setDefault(before);
+        }
+        String row = outLines().get(1);
+        assertEquals(16, row.split(",", -1).length, row);
+        assertTrue(row.split(",")[8].matches("\\d+\\.\\d"), row);
+    }
+
+    @Test
+    void testBenchJsonLines() throws Exception {
+        Path dataset = Files.createTempFile("puzzles", ".csv");
+        Files.write(dataset, List.of("id,size,data", "9_1,9," + String.join(" ", PUZZLE.split(""))));
+
+        assertEquals(0, run("", "bench", "--dataset", dataset.toString(), "--solvers", "DLX", "--reps", "1",
+                "--format", "jsonl"));
+        List<String> lines = outLines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"Dataset\":\"" + dataset + "\",\"Puzzle\":1,\"Solver\":\"DLX\",\"Size\":9"),
+                lines.get(0));
+    }
+
+    @Test
+    void testBenchColumnarOutput() throws Exception {
+        Path dataset = Files.createTempFile("puzzles", ".csv");
+        Files.write(dataset, List.of("id,size,data", "9_1,9," + String.join(" ", PUZZLE.split(""))));
+        Path output = Files.createTempFile("bench", ".col");
+
+        assertEquals(0, run("", "bench", "--dataset", dataset.toString(), "--solvers", "DLX,DPLLSAT", "--reps", "1",
+                "--warmup", "0", "--format", "columnar", "--output", output.toString()));
+        ColumnarResults.Reader reader = ColumnarResults.Reader.open(output);
+        assertEquals(2, reader.getRowCount());
+        assertArrayEquals(new String[]{"DLX", "DPLLSAT"}, reader.getStrings("Solver"));
+        assertArrayEquals(new long[]{30, 30}, reader.getLongs("Clues"));
+        assertEquals(ColumnarResults.Type.FLOAT64, reader.getType("Mean(μs)"));
+        assertEquals(2, run("", "bench", "--format", "columnar"));
+    }
+
+    @Test
+    void testBadArgumentsPrintUsage() throws Exception {
+        assertEquals(2, run("", "bench", "--solvers", "Quantum"));
+        assertEquals(2, run("", "solve", "--threads", "0"));
+        assertEquals(2, run("", "explode"));
+        assertEquals(2, run(""));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage: SudokuCli"));
+        assertEquals(1, run("", "bench", "--dataset", "/no/such/file.csv"));
+    }
+}
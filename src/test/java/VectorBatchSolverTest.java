@@ -0,0 +1,129 @@
+import datasets.PuzzleGenerator;
+import implementations.DLXSolver;
+import implementations.VectorBatchSolver;
+import org.junit.jupiter.api.Test;
+import service.SolverService;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * ============================================
+ *       VectorBatchSolverTest Class
+ * ============================================
+ * User For: Unit testing the lockstep SIMD batch solver against DLX on a seeded corpus, including
+ * partial blocks, unsolvable lanes, the scalar fallback for puzzles that need guessing, and
+ * propagation-only batches.
+ * Written By: Group 1 in @RMIT - 2025 for Group Project of COSC2469 Algorithm And Analysis Course
+ * ============================================
+ */
+
+public class VectorBatchSolverTest {
+
+    @Test
+    void testBatchMatchesDLXOnSeededCorpus() {
+        VectorBatchSolver batch = new VectorBatchSolver();
+        int[][][] puzzles = new PuzzleGenerator(9, 26).generateCorpus(2 * batch.getLaneCount() + 3, 37L);
+
+        int[][][] solutions = batch.solveAll(puzzles);
+
+        assertEquals(puzzles.length, solutions.length);
+        for (int i = 0; i < puzzles.length; i++) {
+            assertArrayEquals(new DLXSolver(9, false).solve(puzzles[i]), solutions[i], "puzzle " + i);
+        }
+        assertEquals(puzzles.length, batch.getLockstepSolved() + batch.getScalarFallbacks());
+        assertEquals(0, batch.getUnsolvable());
+    }
+
+    @Test
+    void testInputPuzzlesAreNotModified() {
+        int[][][] puzzles = new PuzzleGenerator(9, 30).generateCorpus(4, 5L);
+        int[][][] before = new int[puzzles.length][9][];
+        for (int i = 0; i < puzzles.length; i++)
+            for (int r = 0; r < 9; r++) before[i][r] = puzzles[i][r].clone();
+
+        new VectorBatchSolver().solveAll(puzzles);
+
+        for (int i = 0; i < puzzles.length; i++) assertArrayEquals(before[i], puzzles[i]);
+    }
+
+    @Test
+    void testEmptyBoardFallsBackToScalarSearch() {
+        VectorBatchSolver batch = new VectorBatchSolver();
+        int[][][] solutions = batch.solveAll(new int[][][]{new int[9][9]});
+
+        assertNotNull(solutions[0]);
+        assertEquals(1, batch.getScalarFallbacks());
+    }
+
+    @Test
+    void testContradictoryLaneIsNull() {
+        int[][] bad = new int[9][9];
+        bad[0][0] = 5;
+        bad[0][8] = 5;
+
+        VectorBatchSolver batch = new VectorBatchSolver();
+        int[][][] solutions = batch.solveAll(new int[][][]{bad});
+
+        assertNull(solutions[0]);
+        assertEquals(1, batch.getUnsolvable());
+    }
+
+    @Test
+    void testContradictionFoundByPropagationTerminates() {
+        // No clue repeats, but propagation leaves one cell as the only place for two digits.
+        int[][] bad = SolverService.parseBoard(
+                "700040005410036070200000300000008050000051690030000000629023004080015020072460000");
+        int[][][] puzzles = new PuzzleGenerator(9, 30).generateCorpus(3, 11L);
+        int[][][] block = {puzzles[0], bad, puzzles[1], puzzles[2]};
+
+        VectorBatchSolver batch = new VectorBatchSolver();
+        int[][][] solutions = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> batch.solveAll(block));
+
+        assertNull(solutions[1]);
+        assertEquals(1, batch.getUnsolvable());
+        for (int i : new int[]{0, 2, 3}) assertArrayEquals(new DLXSolver(9, false).solve(block[i]), solutions[i]);
+    }
+
+    @Test
+    void testPropagateAllLeavesGuessingToCaller() {
+        int[][] bad = new int[9][9];
+        bad[0][0] = 5;
+        bad[0][8] = 5;
+        int[][][] corpus = new PuzzleGenerator(9, 26).generateCorpus(5, 23L);
+        int[][][] puzzles = {corpus[0], corpus[1], new int[9][9], bad, corpus[2], corpus[3], corpus[4]};
+
+        VectorBatchSolver batch = new VectorBatchSolver();
+        int[][][] boards = batch.propagateAll(puzzles);
+
+        assertNull(boards[3]);
+        assertEquals(0, batch.getScalarFallbacks());
+        for (int i : new int[]{0, 1, 4, 5, 6}) {
+            int[][] solution = new DLXSolver(9, false).solve(puzzles[i]);
+            for (int r = 0; r < 9; r++) {
+                for (int c = 0; c < 9; c++) {
+                    if (puzzles[i][r][c] != 0) assertEquals(puzzles[i][r][c], boards[i][r][c]);
+                    if (boards[i][r][c] != 0) assertEquals(solution[r][c], boards[i][r][c], "puzzle " + i);
+                }
+            }
+        }
+        // Nothing to propagate on an empty board, so it comes back for the caller's solver.
+        for (int[] row : boards[2]) assertArrayEquals(new int[9], row);
+    }
+
+    @Test
+    void testNullPuzzleThrowsException() {
+        int[][][] puzzles = {new int[9][9], null};
+
+        assertThrows(IllegalArgumentException.class, () -> new VectorBatchSolver().solveAll(puzzles));
+    }
+
+    @Test
+    void testInvalidBoardThrowsException() {
+        int[][] bad = new int[9][9];
+        bad[4][4] = 12;
+
+        assertThrows(IllegalArgumentException.class, () -> new VectorBatchSolver().solveAll(new int[][][]{bad}));
+    }
+}